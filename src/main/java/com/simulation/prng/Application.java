@@ -1,5 +1,7 @@
 package com.simulation.prng;
 
+import com.simulation.prng.io.Storage;
+import com.simulation.prng.utils.JobExecutor;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -17,7 +19,13 @@ public class Application extends javafx.application.Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        JobExecutor.shutdown();
+    }
+
     public static void main(String[] args) {
+        Storage.sweep();
         launch();
     }
 }
\ No newline at end of file
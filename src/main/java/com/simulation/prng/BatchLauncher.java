@@ -0,0 +1,327 @@
+package com.simulation.prng;
+
+import com.simulation.prng.analysis.Candidate;
+import com.simulation.prng.analysis.MetaResult;
+import com.simulation.prng.analysis.MetaTest;
+import com.simulation.prng.analysis.ParameterSweep;
+import com.simulation.prng.analysis.Range;
+import com.simulation.prng.io.SequenceFile;
+import com.simulation.prng.io.SpillingSequence;
+import com.simulation.prng.io.Storage;
+import com.simulation.prng.statistics.PValueHistogram;
+import com.simulation.prng.statistics.RandomnessTest;
+import com.simulation.prng.statistics.TestEngine;
+import com.simulation.prng.statistics.TestReport;
+import com.simulation.prng.statistics.TestResult;
+import com.simulation.prng.statistics.TestSettings;
+import com.simulation.prng.utils.Form;
+import com.simulation.prng.utils.InvalidInputException;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.Validator;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.templates.Budget;
+import com.simulation.prng.utils.templates.ParallelGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+public class BatchLauncher {
+
+    private static final String USAGE = """
+            Usage: BatchLauncher --algorithm <name> --params <v1,v2,...> [options]
+              --algorithm  one of %s
+              --params     comma separated natural numbers, in the order listed below
+              --limit      maximum number of values to generate (default: full life cycle)
+              --timeout    wall-clock budget in seconds, keeps the values generated so far (default: none)
+              --tests      comma separated list of %s, or all (default: none)
+              --output     file to write the values to, or - for standard output (default: none)
+              --save       binary sequence file to export the states to
+              --input      binary sequence file to test instead of generating (no --algorithm needed)
+              --period     also report the tail and cycle of the generator
+              --approximate-median
+                           use a streaming P2 estimate of the median for the runs tests
+                           (runs the battery on one thread instead of in parallel chunks)
+              --poker-hand number of values per poker hand (default: 5)
+              --gap-interval
+                           alpha,beta interval of the gaps test (default: 0,0.5)
+              --max-gap    longest gap counted on its own by the gaps test (default: 5)
+              --meta       run the battery on this many (at least 50) independent sequences of --limit values
+                           and test the uniformity of the collected p-values
+              --substreams take the --meta sequences from consecutive jump-ahead sub-streams
+                           instead of consecutive seeds
+              --sweep      comma separated from..to[:step] ranges, in the sweep order listed below,
+                           to rank every parameter combination of --algorithm by period
+              --top        number of combinations the sweep reports (default: 10)
+              --point-timeout
+                           seconds spent on the period of a single combination (default: none)
+            Parameters:
+            %s
+            Sweep parameters:
+            %s""";
+
+    public static void main(String[] args) {
+        Storage.sweep();
+        try {
+            System.exit(run(args));
+        } catch (InvalidInputException e) {
+            System.err.println(e.getHeader() + ": " + e.getMessage());
+            System.exit(2);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(usage());
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            System.exit(3);
+        } catch (CancellationException e) {
+            System.err.println(e.getMessage() + ": time budget exceeded");
+            System.exit(4);
+        }
+    }
+
+    private static int run(String[] args) throws IOException {
+        Form form = null;
+        List<Long> params = null;
+        long limit = Long.MAX_VALUE;
+        Duration timeout = null;
+        Set<RandomnessTest> tests = EnumSet.noneOf(RandomnessTest.class);
+        String output = null;
+        Path save = null;
+        Path input = null;
+        boolean period = false;
+        TestSettings settings = TestSettings.DEFAULT;
+        long replicates = 0;
+        MetaTest.Mode mode = MetaTest.Mode.SEEDS;
+        List<Range> sweep = null;
+        int top = 10;
+        Duration pointTimeout = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--algorithm" -> form = Form.valueOf(value(args, ++i).toUpperCase());
+                case "--params" -> params = Validator.parseCSVFormat(value(args, ++i));
+                case "--limit" -> limit = Validator.parseNatural(value(args, ++i));
+                case "--timeout" -> timeout = Duration.ofSeconds(Validator.parseNatural(value(args, ++i)));
+                case "--tests" -> tests = parseTests(value(args, ++i));
+                case "--output" -> output = value(args, ++i);
+                case "--save" -> save = Path.of(value(args, ++i));
+                case "--input" -> input = Path.of(value(args, ++i));
+                case "--period" -> period = true;
+                case "--approximate-median" -> settings = settings.withApproximateMedian(true);
+                case "--poker-hand" -> settings = settings.withPokerHand(parseInt(value(args, ++i)));
+                case "--gap-interval" -> {
+                    double[] interval = parseInterval(value(args, ++i));
+                    settings = settings.withGaps(interval[0], interval[1], settings.maxGap());
+                }
+                case "--max-gap" -> settings = settings.withGaps(settings.gapAlpha(), settings.gapBeta(), parseInt(value(args, ++i)));
+                case "--meta" -> replicates = Validator.parseNatural(value(args, ++i));
+                case "--substreams" -> mode = MetaTest.Mode.SUBSTREAMS;
+                case "--sweep" -> sweep = parseRanges(value(args, ++i));
+                case "--top" -> top = parseInt(value(args, ++i));
+                case "--point-timeout" -> pointTimeout = Duration.ofSeconds(Validator.parseNatural(value(args, ++i)));
+                case "--help", "-h" -> {
+                    System.out.println(usage());
+                    return 0;
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (input != null && (period || save != null)) throw new IllegalArgumentException("--period and --save cannot be combined with --input");
+        if (input != null && (sweep != null || replicates > 0)) throw new IllegalArgumentException("--sweep and --meta cannot be combined with --input");
+
+        PrintStream report = "-".equals(output) ? System.err : System.out;
+        if (sweep != null) return sweep(form, sweep, top, timeout, pointTimeout, report);
+        if (replicates > 0) return meta(form, params, mode, replicates, limit, settings, report);
+
+        Sequence sequence;
+
+        if (input != null) {
+            SequenceFile file = SequenceFile.read(input);
+            sequence = file.sequence();
+            report.printf("%s %s: %d values mapped from %s%n", file.algorithm(), file.parameters(), sequence.size(), input);
+        } else {
+            if (form == null || params == null) throw new IllegalArgumentException("--algorithm and --params are required");
+
+            AlgorithmTemplate algorithm = form.create(params);
+            Budget budget = new Budget(limit, timeout);
+
+            long start = System.nanoTime();
+            sequence = ParallelGenerator.generate(algorithm, budget, ForkJoinPool.commonPool(), null);
+            report.printf("%s: %d values in %.3f s%s%n", form.name(), sequence.size(), (System.nanoTime() - start) / 1e9,
+                    budget.isStopped() ? " (stopped)" : "");
+
+            if (period) report.println("Period: " + algorithm.period(new Budget(Long.MAX_VALUE, timeout)));
+            if (save != null) SequenceFile.write(save, form.name(), params, sequence);
+        }
+
+        try {
+            return check(sequence, output, tests, settings, report);
+        } finally {
+            if (sequence instanceof SpillingSequence spilling) spilling.close();
+        }
+    }
+
+    private static int check(Sequence sequence, String output, Set<RandomnessTest> tests, TestSettings settings, PrintStream report) throws IOException {
+        if (output != null) write(sequence, output);
+
+        if (tests.isEmpty() || sequence.isEmpty()) return 0;
+
+        TestReport results = TestEngine.run(sequence, tests, settings,
+                settings.approximateMedian() ? null : ForkJoinPool.commonPool());
+        report.printf("mean=%.6f (Expected: 0.5)%n", results.mean());
+        report.printf("variance=%.6f (Expected: 0.083)%n", results.variance());
+
+        boolean passed = true;
+        for (RandomnessTest test : tests) {
+            TestResult result = results.get(test);
+            report.printf("%s: statistic=%.4f, p=%.4f %s%n", test, result.statistic(), result.pValue(), result.passed() ? "PASS" : "FAIL");
+            passed &= result.passed();
+        }
+        return passed ? 0 : 1;
+    }
+
+    private static int meta(Form form, List<Long> params, MetaTest.Mode mode, long replicates, long limit, TestSettings settings, PrintStream report) {
+        if (form == null || params == null) throw new IllegalArgumentException("--algorithm and --params are required");
+        if (limit == Long.MAX_VALUE) throw new IllegalArgumentException("--meta needs --limit for the length of each sequence");
+        if (replicates < PValueHistogram.MINIMUM_SAMPLES) {
+            throw new IllegalArgumentException("--meta needs at least " + PValueHistogram.MINIMUM_SAMPLES + " sequences to test the p-values for uniformity");
+        }
+
+        MetaTest meta = new MetaTest(form, params, mode, replicates, limit, settings, Runtime.getRuntime().availableProcessors());
+        long step = Math.max(1, replicates / 10);
+        meta.setListener(results -> {
+            long done = results.get(0).replicates();
+            if (done % step == 0) report.printf("%d/%d sequences tested%n", done, replicates);
+        });
+
+        long start = System.nanoTime();
+        List<MetaResult> results = meta.run();
+        report.printf("%s: %d sequences of %d values (%s) in %.3f s, %d skipped%n", form.name(), meta.completed(), limit,
+                mode.name().toLowerCase(), (System.nanoTime() - start) / 1e9, meta.skipped());
+
+        boolean passed = true;
+        for (MetaResult result : results) {
+            report.printf("%s: pass rate=%.4f, p-value chi-square=%.4f (p=%.4f), KS D=%.4f (p=%.4f) %s%n",
+                    result.test(), result.passRate(),
+                    result.chiSquare().statistic(), result.chiSquare().pValue(),
+                    result.kolmogorovSmirnov().statistic(), result.kolmogorovSmirnov().pValue(),
+                    !result.sufficient() ? "INSUFFICIENT SAMPLES" : result.passed() ? "UNIFORM" : "NOT UNIFORM");
+            passed &= result.passed();
+        }
+        return passed ? 0 : 1;
+    }
+
+    private static int sweep(Form form, List<Range> ranges, int top, Duration timeout, Duration pointTimeout, PrintStream report) {
+        if (form == null) throw new IllegalArgumentException("--sweep needs --algorithm");
+
+        ParameterSweep.Family family;
+        try {
+            family = ParameterSweep.Family.valueOf(form.name());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--sweep supports " + List.of(ParameterSweep.Family.values()) + " but got " + form.name());
+        }
+
+        ParameterSweep sweep = new ParameterSweep(family, ranges, top, Runtime.getRuntime().availableProcessors(), timeout, pointTimeout);
+
+        long start = System.nanoTime();
+        List<Candidate> leaders = sweep.run();
+        report.printf("%s: %d of %d combinations in %.3f s%s%n", family, sweep.evaluated(), sweep.total(),
+                (System.nanoTime() - start) / 1e9, sweep.isStopped() ? " (stopped)" : "");
+
+        report.printf("%4s  %-40s %20s %12s%n", "rank", String.join(", ", family.parameters()), "period", "screen");
+        for (int i = 0; i < leaders.size(); i++) {
+            Candidate candidate = leaders.get(i);
+            report.printf("%4d  %-40s %20s %12.4f %s%n", i + 1,
+                    candidate.parameters().stream().map(String::valueOf).collect(Collectors.joining(", ")),
+                    candidate.determined() ? String.valueOf(candidate.period().length()) : "undetermined",
+                    candidate.screen(), candidate.passes() ? "PASS" : "FAIL");
+        }
+        return 0;
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        return args[index];
+    }
+
+    private static int parseInt(String text) {
+        long value = Validator.parseNatural(text);
+        if (value > Integer.MAX_VALUE) throw new IllegalArgumentException("Value too large: " + text);
+        return (int) value;
+    }
+
+    private static double[] parseInterval(String text) {
+        String[] bounds = text.split("\\s*,\\s*");
+        if (bounds.length != 2) throw new IllegalArgumentException("Expected alpha,beta but got: " + text);
+        try {
+            return new double[]{Double.parseDouble(bounds[0]), Double.parseDouble(bounds[1])};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid interval: " + text);
+        }
+    }
+
+    private static List<Range> parseRanges(String list) {
+        List<Range> ranges = new ArrayList<>();
+        for (String text : list.split("\\s*,\\s*")) {
+            String[] parts = text.split(":", -1);
+            String[] bounds = parts[0].split("\\.\\.", -1);
+            if (parts.length > 2 || bounds.length > 2) throw new IllegalArgumentException("Expected from..to[:step] but got: " + text);
+
+            long from = Validator.parseNatural(bounds[0]);
+            long to = bounds.length > 1 ? Validator.parseNatural(bounds[1]) : from;
+            long step = parts.length > 1 ? Validator.parseNatural(parts[1]) : 1;
+            ranges.add(new Range(from, to, step));
+        }
+        return ranges;
+    }
+
+    private static Set<RandomnessTest> parseTests(String list) {
+        if (list.equalsIgnoreCase("all")) return EnumSet.allOf(RandomnessTest.class);
+
+        Set<RandomnessTest> tests = EnumSet.noneOf(RandomnessTest.class);
+        for (String id : list.split("\\s*,\\s*")) tests.add(RandomnessTest.of(id));
+        return tests;
+    }
+
+    private static void write(Sequence sequence, String output) throws IOException {
+        Writer writer = "-".equals(output)
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8);
+
+        try (BufferedWriter out = new BufferedWriter(writer, 1 << 16)) {
+            for (long i = 0; i < sequence.size(); i++) {
+                out.write(Double.toString(sequence.get(i)));
+                out.newLine();
+            }
+        }
+    }
+
+    private static String usage() {
+        List<String> forms = new ArrayList<>();
+        StringBuilder parameters = new StringBuilder();
+        for (Form form : Form.values()) {
+            forms.add(form.name());
+            parameters.append(String.format("  %-4s %s%n", form.name(), String.join(", ", form.getParameters())));
+        }
+        StringBuilder sweeps = new StringBuilder();
+        for (ParameterSweep.Family family : ParameterSweep.Family.values()) {
+            sweeps.append(String.format("  %-4s %s%n", family.name(), String.join(", ", family.parameters())));
+        }
+        return String.format(USAGE, forms, List.of(RandomnessTest.values()), parameters, sweeps);
+    }
+}
@@ -0,0 +1,25 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.utils.Period;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record Candidate(List<Long> parameters, Period period, double screen) {
+
+    public static final double SCREEN_CRITICAL = 32.0;
+
+    public static final Comparator<Candidate> RANKING = Comparator
+            .comparing(Candidate::determined, Comparator.reverseOrder())
+            .thenComparing(Comparator.comparingLong((Candidate candidate) -> candidate.determined() ? candidate.period().length() : 0).reversed())
+            .thenComparing(Candidate::passes, Comparator.reverseOrder())
+            .thenComparingDouble(Candidate::screen);
+
+    public boolean determined() {
+        return period != null;
+    }
+
+    public boolean passes() {
+        return screen < SCREEN_CRITICAL;
+    }
+}
@@ -0,0 +1,70 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.utils.Period;
+
+public class CycleStructure {
+
+    private final int[] tails;
+    private final int[] labels;
+    private final int[] cycles;
+
+    CycleStructure(int[] tails, int[] labels, int[] cycles) {
+        this.tails = tails;
+        this.labels = labels;
+        this.cycles = cycles;
+    }
+
+    public long states() {
+        return tails.length;
+    }
+
+    public int cycles() {
+        return cycles.length;
+    }
+
+    public int cycleLength(int cycle) {
+        return cycles[cycle];
+    }
+
+    public int cycleOf(long state) {
+        return labels[index(state)];
+    }
+
+    public int tail(long state) {
+        return tails[index(state)];
+    }
+
+    public int cycle(long state) {
+        return cycles[labels[index(state)]];
+    }
+
+    public Period period(long state) {
+        int index = index(state);
+        return new Period(tails[index], cycles[labels[index]]);
+    }
+
+    public long cyclicStates() {
+        long total = 0;
+        for (int length : cycles) total += length;
+        return total;
+    }
+
+    public int longestCycle() {
+        int longest = 0;
+        for (int length : cycles) longest = Math.max(longest, length);
+        return longest;
+    }
+
+    public int longestTail() {
+        int longest = 0;
+        for (int tail : tails) longest = Math.max(longest, tail);
+        return longest;
+    }
+
+    private int index(long state) {
+        if (state < 0 || state >= tails.length) {
+            throw new IndexOutOfBoundsException("State " + state + " is outside [0, " + tails.length + ")");
+        }
+        return (int) state;
+    }
+}
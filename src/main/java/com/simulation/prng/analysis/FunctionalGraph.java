@@ -0,0 +1,162 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.utils.Pattern;
+import com.simulation.prng.utils.math.Modulus;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongUnaryOperator;
+
+public class FunctionalGraph {
+
+    private static final int MAXIMUM_STATES = Integer.MAX_VALUE - 8;
+    private static final int BLOCK = 1 << 16;
+
+    private final int states;
+    private final LongUnaryOperator successor;
+
+    public FunctionalGraph(long states, LongUnaryOperator successor) {
+        if (states < 1 || states > MAXIMUM_STATES) {
+            throw new IllegalArgumentException("Unsupported state space: " + states);
+        }
+        this.states = (int) states;
+        this.successor = successor;
+    }
+
+    public static FunctionalGraph middleSquare(int length) {
+        return new FunctionalGraph(Pattern.power(length), x -> Pattern.apply(x, x, length));
+    }
+
+    public static FunctionalGraph constantMultiplier(int length, long constant) {
+        return new FunctionalGraph(Pattern.power(length), x -> Pattern.apply(x, constant, length));
+    }
+
+    public static FunctionalGraph linear(long multiplier, long increment, long modulus) {
+        return new FunctionalGraph(modulus, Modulus.of(modulus).affineStep(multiplier, increment));
+    }
+
+    public static FunctionalGraph quadratic(long a, long b, long c, long modulus) {
+        Modulus arithmetic = Modulus.of(modulus);
+        long preparedA = arithmetic.prepare(a);
+        long reducedB = arithmetic.reduce(b);
+        long reducedC = arithmetic.reduce(c);
+        return new FunctionalGraph(modulus, x -> {
+            long linear = arithmetic.add(arithmetic.multiplyPrepared(preparedA, x), reducedB);
+            return arithmetic.add(arithmetic.multiply(linear, x), reducedC);
+        });
+    }
+
+    public static FunctionalGraph blumBlumShub(long p, long q) {
+        if (p % 4 != 3 || q % 4 != 3) {
+            throw new IllegalArgumentException();
+        }
+        Modulus arithmetic = Modulus.of(Math.multiplyExact(p, q));
+        return new FunctionalGraph(arithmetic.value(), x -> arithmetic.multiply(x, x));
+    }
+
+    public long states() {
+        return states;
+    }
+
+    public CycleStructure analyze() {
+        return analyze(ForkJoinPool.commonPool());
+    }
+
+    public CycleStructure analyze(ForkJoinPool pool) {
+        int[] next = new int[states];
+        pool.invoke(new Successors(next, 0, states));
+
+        int[] degree = new int[states];
+        for (int target : next) degree[target]++;
+
+        int[] order = new int[states];
+        int peeled = peel(next, degree, order);
+
+        int[] cycles = label(next, degree);
+        resolve(next, degree, order, peeled);
+
+        return new CycleStructure(degree, next, cycles);
+    }
+
+    private static int peel(int[] next, int[] degree, int[] order) {
+        int tail = 0;
+        for (int x = 0; x < next.length; x++) {
+            if (degree[x] == 0) order[tail++] = x;
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int target = next[order[head]];
+            if (--degree[target] == 0) order[tail++] = target;
+        }
+        return tail;
+    }
+
+    private static int[] label(int[] next, int[] degree) {
+        int[] lengths = new int[16];
+        int count = 0;
+
+        for (int x = 0; x < next.length; x++) {
+            if (degree[x] == 0) continue;
+
+            int length = 0;
+            int y = x;
+            do {
+                degree[y] = 0;
+                length++;
+                y = next[y];
+            } while (y != x);
+
+            do {
+                int target = next[y];
+                next[y] = count;
+                y = target;
+            } while (y != x);
+
+            if (count == lengths.length) lengths = Arrays.copyOf(lengths, count << 1);
+            lengths[count++] = length;
+        }
+        return Arrays.copyOf(lengths, count);
+    }
+
+    private static void resolve(int[] next, int[] tails, int[] order, int peeled) {
+        for (int i = peeled - 1; i >= 0; i--) {
+            int x = order[i];
+            int target = next[x];
+            tails[x] = tails[target] + 1;
+            next[x] = next[target];
+        }
+    }
+
+    private class Successors extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] next;
+        private final int from;
+        private final int to;
+
+        Successors(int[] next, int from, int to) {
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BLOCK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Successors(next, from, middle), new Successors(next, middle, to));
+                return;
+            }
+
+            for (int x = from; x < to; x++) {
+                long target = successor.applyAsLong(x);
+                if (target < 0 || target >= states) {
+                    throw new IllegalStateException("Successor of " + x + " is outside the state space: " + target);
+                }
+                next[x] = (int) target;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.statistics.PValueHistogram;
+import com.simulation.prng.statistics.RandomnessTest;
+import com.simulation.prng.statistics.TestResult;
+
+public record MetaResult(RandomnessTest test, long replicates, double passRate, TestResult chiSquare, TestResult kolmogorovSmirnov) {
+
+    public boolean sufficient() {
+        return replicates >= PValueHistogram.MINIMUM_SAMPLES;
+    }
+
+    public boolean passed() {
+        return chiSquare.passed() && kolmogorovSmirnov.passed();
+    }
+}
@@ -0,0 +1,170 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.statistics.PValueHistogram;
+import com.simulation.prng.statistics.RandomnessTest;
+import com.simulation.prng.statistics.TestEngine;
+import com.simulation.prng.statistics.TestReport;
+import com.simulation.prng.statistics.TestSettings;
+import com.simulation.prng.utils.Form;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.templates.Jumpable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class MetaTest {
+
+    public enum Mode {
+        SEEDS,
+        SUBSTREAMS
+    }
+
+    private static final Set<RandomnessTest> TESTS = EnumSet.complementOf(EnumSet.of(RandomnessTest.RUNS_LENGTH));
+
+    private final Form form;
+    private final List<Long> parameters;
+    private final Mode mode;
+    private final long replicates;
+    private final long length;
+    private final TestSettings settings;
+    private final int parallelism;
+    private final AlgorithmTemplate origin;
+
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final Map<RandomnessTest, PValueHistogram> histograms = new EnumMap<>(RandomnessTest.class);
+    private long completed;
+    private volatile boolean cancelled;
+    private volatile Consumer<List<MetaResult>> listener = results -> {};
+
+    public MetaTest(Form form, List<Long> parameters, Mode mode, long replicates, long length) {
+        this(form, parameters, mode, replicates, length, TestSettings.DEFAULT, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MetaTest(Form form, List<Long> parameters, Mode mode, long replicates, long length, TestSettings settings, int parallelism) {
+        if (replicates < 1 || length < 2 || parallelism < 1) {
+            throw new IllegalArgumentException("replicates, length and parallelism must be positive and length at least 2");
+        }
+
+        this.form = form;
+        this.parameters = List.copyOf(parameters);
+        this.mode = mode;
+        this.replicates = replicates;
+        this.length = length;
+        this.settings = settings;
+        this.parallelism = parallelism;
+        this.origin = form.create(this.parameters);
+
+        if (mode == Mode.SUBSTREAMS) {
+            if (!(origin instanceof Jumpable)) {
+                throw new IllegalArgumentException(form.name() + " cannot jump ahead, use seeds instead of sub-streams");
+            }
+            if (replicates > Long.MAX_VALUE / length) {
+                throw new IllegalArgumentException(replicates + " sub-streams of " + length + " values exceed the addressable range");
+            }
+        }
+        for (RandomnessTest test : TESTS) histograms.put(test, new PValueHistogram());
+    }
+
+    public void setListener(Consumer<List<MetaResult>> listener) {
+        this.listener = listener;
+    }
+
+    public List<MetaResult> run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Worker> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) workers.add(new Worker());
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(workers);
+                }
+            });
+        } finally {
+            pool.shutdownNow();
+        }
+        return results();
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long replicates() {
+        return replicates;
+    }
+
+    public synchronized long completed() {
+        return completed;
+    }
+
+    public long skipped() {
+        return skipped.get();
+    }
+
+    public synchronized List<MetaResult> results() {
+        List<MetaResult> results = new ArrayList<>();
+        for (Map.Entry<RandomnessTest, PValueHistogram> entry : histograms.entrySet()) {
+            PValueHistogram histogram = entry.getValue();
+            results.add(new MetaResult(entry.getKey(), histogram.count(), histogram.passRate(),
+                    histogram.chiSquare(), histogram.kolmogorovSmirnov()));
+        }
+        return results;
+    }
+
+    private Sequence replicate(long index) {
+        if (mode == Mode.SUBSTREAMS) return origin.substream(index * length, length);
+
+        List<Long> values = new ArrayList<>(parameters);
+        values.set(0, Math.addExact(parameters.get(0), index));
+        return form.create(values).generate(length);
+    }
+
+    private synchronized void record(TestReport report) {
+        for (Map.Entry<RandomnessTest, PValueHistogram> entry : histograms.entrySet()) {
+            entry.getValue().accept(report.get(entry.getKey()).pValue());
+        }
+        completed++;
+    }
+
+    private class Worker extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            long index;
+            while (!cancelled && (index = next.getAndIncrement()) < replicates) {
+                TestReport report;
+                try {
+                    Sequence sequence = replicate(index);
+                    if (sequence.size() < 2) {
+                        skipped.incrementAndGet();
+                        continue;
+                    }
+                    report = TestEngine.run(sequence, TESTS, settings);
+                } catch (RuntimeException e) {
+                    skipped.incrementAndGet();
+                    continue;
+                }
+
+                record(report);
+                listener.accept(results());
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.templates.Budget;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class ParameterSweep {
+
+    private static final int BLOCK = 256;
+    private static final int SCREEN_SAMPLES = 4096;
+    private static final int SCREEN_BINS = 16;
+
+    public enum Family {
+        LCG(p -> new LCG(p[3], p[0], p[1], p[2]), "a", "c", "m", "seed"),
+        MCG(p -> new MCG(p[2], p[0], p[1]), "a", "m", "seed"),
+        QCG(p -> new QCG(p[4], p[0], p[1], p[2], p[3]), "a", "b", "c", "m", "seed");
+
+        private final Function<long[], AlgorithmTemplate> factory;
+        private final String[] parameters;
+
+        Family(Function<long[], AlgorithmTemplate> factory, String... parameters) {
+            this.factory = factory;
+            this.parameters = parameters;
+        }
+
+        public List<String> parameters() {
+            return List.of(parameters);
+        }
+
+        long modulus(long[] values) {
+            return values[values.length - 2];
+        }
+    }
+
+    private final Family family;
+    private final Range[] ranges;
+    private final int top;
+    private final int parallelism;
+    private final long total;
+    private final Budget budget;
+    private final Duration pointLimit;
+
+    private final AtomicLong evaluated = new AtomicLong();
+    private final PriorityQueue<Candidate> leaders;
+    private volatile Consumer<List<Candidate>> listener = leaders -> {};
+
+    public ParameterSweep(Family family, List<Range> ranges, int top) {
+        this(family, ranges, top, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParameterSweep(Family family, List<Range> ranges, int top, int parallelism) {
+        this(family, ranges, top, parallelism, null, null);
+    }
+
+    public ParameterSweep(Family family, List<Range> ranges, int top, int parallelism, Duration timeLimit, Duration pointLimit) {
+        if (ranges.size() != family.parameters.length) {
+            throw new IllegalArgumentException(family + " expects ranges for " + family.parameters());
+        }
+        if (top < 1 || parallelism < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.family = family;
+        this.ranges = ranges.toArray(new Range[0]);
+        this.top = top;
+        this.parallelism = parallelism;
+        this.leaders = new PriorityQueue<>(top + 1, Candidate.RANKING.reversed());
+        this.budget = new Budget(Long.MAX_VALUE, timeLimit);
+        this.pointLimit = pointLimit;
+
+        long total = 1;
+        for (Range range : this.ranges) total = Math.multiplyExact(total, range.count());
+        this.total = total;
+    }
+
+    public void setListener(Consumer<List<Candidate>> listener) {
+        this.listener = listener;
+    }
+
+    public List<Candidate> run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new Block(0, total));
+        } finally {
+            pool.shutdownNow();
+        }
+        return leaders();
+    }
+
+    public void cancel() {
+        budget.cancel();
+    }
+
+    public boolean isCancelled() {
+        return budget.isCancelled();
+    }
+
+    public boolean isStopped() {
+        return budget.isStopped();
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public long evaluated() {
+        return evaluated.get();
+    }
+
+    public synchronized List<Candidate> leaders() {
+        List<Candidate> ranked = new ArrayList<>(leaders);
+        ranked.sort(Candidate.RANKING);
+        return ranked;
+    }
+
+    private Candidate evaluate(long index) {
+        long[] values = new long[ranges.length];
+        for (int i = ranges.length - 1; i >= 0; i--) {
+            long count = ranges[i].count();
+            values[i] = ranges[i].value(index % count);
+            index /= count;
+        }
+
+        long modulus = family.modulus(values);
+        if (modulus < 2) return null;
+
+        List<Long> parameters = Arrays.stream(values).boxed().toList();
+        try {
+            AlgorithmTemplate generator = family.factory.apply(values);
+            try {
+                Period period = generator.period(budget.child(pointLimit));
+                return new Candidate(parameters, period, screen(generator, period.length()));
+            } catch (CancellationException e) {
+                if (budget.exhausted()) return null;
+                return new Candidate(parameters, null, screen(generator, SCREEN_SAMPLES));
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static double screen(AlgorithmTemplate generator, long length) {
+        int n = (int) Math.min(SCREEN_SAMPLES, length);
+        if (n < 2) return Double.POSITIVE_INFINITY;
+
+        int[] bins = new int[SCREEN_BINS];
+        double previous = generator.nextDouble();
+        double sum = previous;
+        double squares = previous * previous;
+        double products = 0;
+        bins[Math.min(SCREEN_BINS - 1, (int) (previous * SCREEN_BINS))]++;
+
+        for (int i = 1; i < n; i++) {
+            double u = generator.nextDouble();
+            bins[Math.min(SCREEN_BINS - 1, (int) (u * SCREEN_BINS))]++;
+            sum += u;
+            squares += u * u;
+            products += previous * u;
+            previous = u;
+        }
+
+        double expected = (double) n / SCREEN_BINS;
+        double chiSquare = 0;
+        for (int observed : bins) chiSquare += (observed - expected) * (observed - expected) / expected;
+
+        double mean = sum / n;
+        double variance = squares / n - mean * mean;
+        double correlation = variance > 0 ? (products / (n - 1) - mean * mean) / variance : 1;
+
+        return chiSquare + n * correlation * correlation;
+    }
+
+    private synchronized boolean offer(List<Candidate> block) {
+        boolean changed = false;
+        for (Candidate candidate : block) {
+            if (leaders.size() < top) {
+                leaders.add(candidate);
+                changed = true;
+            } else if (Candidate.RANKING.compare(candidate, leaders.peek()) < 0) {
+                leaders.poll();
+                leaders.add(candidate);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private class Block extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        Block(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (budget.exhausted()) return;
+
+            if (to - from > BLOCK) {
+                long middle = (from + to) >>> 1;
+                invokeAll(new Block(from, middle), new Block(middle, to));
+                return;
+            }
+
+            PriorityQueue<Candidate> local = new PriorityQueue<>(top + 1, Candidate.RANKING.reversed());
+            for (long i = from; i < to && !budget.exhausted(); i++) {
+                Candidate candidate = evaluate(i);
+                evaluated.incrementAndGet();
+                if (candidate == null) continue;
+
+                local.add(candidate);
+                if (local.size() > top) local.poll();
+            }
+
+            if (offer(new ArrayList<>(local))) listener.accept(leaders());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.simulation.prng.analysis;
+
+public record Range(long from, long to, long step) {
+
+    public Range {
+        if (step < 1 || to < from) {
+            throw new IllegalArgumentException("Invalid range: " + from + ".." + to + " step " + step);
+        }
+    }
+
+    public static Range of(long value) {
+        return new Range(value, value, 1);
+    }
+
+    public static Range of(long from, long to) {
+        return new Range(from, to, 1);
+    }
+
+    public long count() {
+        return (to - from) / step + 1;
+    }
+
+    public long value(long index) {
+        return from + index * step;
+    }
+}
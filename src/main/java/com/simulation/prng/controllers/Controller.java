@@ -4,7 +4,13 @@ import com.simulation.prng.controllers.tests.testsController;
 import com.simulation.prng.utils.AlertHandler;
 import com.simulation.prng.utils.ControllerStructure;
 import com.simulation.prng.utils.Form;
-import javafx.collections.ObservableList;
+import com.simulation.prng.utils.InvalidInputException;
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.Progress;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.SequenceList;
+import com.simulation.prng.utils.Validator;
+import com.simulation.prng.utils.templates.Budget;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -20,8 +26,12 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class Controller implements Initializable {
 
@@ -33,8 +43,11 @@ public class Controller implements Initializable {
 
     @FXML
     public Button
+            cancelButton,
             clearButton,
             executeButton,
+            jumpButton,
+            periodButton,
             testsButton;
 
     @FXML
@@ -43,16 +56,54 @@ public class Controller implements Initializable {
     @FXML
     public Label lifeCycleLabel;
 
+    @FXML
+    public TextField
+            indexTextField,
+            limitTextField,
+            timeoutTextField;
+
+    @FXML
+    public ProgressBar progressBar;
+
     private ControllerStructure controllerStructure;
 
-    Consumer<ObservableList<Double>> success = (result) -> {
-        listView.setItems(result);
+    Supplier<Budget> budgets = () -> {
+        try {
+            String limitText = limitTextField.getText().trim();
+            String timeoutText = timeoutTextField.getText().trim();
+            long limit = limitText.isEmpty() ? Long.MAX_VALUE : Validator.parseNatural(limitText);
+            Duration timeout = timeoutText.isEmpty() ? null : Duration.ofSeconds(Validator.parseNatural(timeoutText));
+            return new Budget(limit, timeout);
+        } catch (InvalidInputException e) {
+            AlertHandler.showAlert(e);
+            return null;
+        }
+    };
+
+    BiConsumer<Sequence, Budget> success = (result, budget) -> {
+        show(result, result.size());
         executeButton.setDisable(false);
-        lifeCycleLabel.setText("Life Cicle: " + listView.getItems().size());
+        lifeCycleLabel.setText("Life Cicle: " + result.size() + (budget.isStopped() ? " (stopped)" : ""));
         testsController.results = result;
     };
 
+    Consumer<Progress> progress = (update) -> {
+        show(update.sequence(), update.ready());
+        lifeCycleLabel.setText("Life Cicle: " + update.ready() + "...");
+    };
+
+    Consumer<Period> analysis = (period) -> {
+        executeButton.setDisable(false);
+        lifeCycleLabel.setText("Life Cicle: " + period.length() +
+                " (tail " + period.tail() + ", cycle " + period.cycle() + ")");
+    };
+
     Consumer<Throwable> failure = (exception) -> {
+        executeButton.setDisable(false);
+        if (exception instanceof CancellationException) {
+            lifeCycleLabel.setText("Life Cicle: stopped");
+            return;
+        }
         AlertHandler.showAlert(
                 Alert.AlertType.ERROR,
                 "Error",
@@ -60,7 +111,6 @@ public class Controller implements Initializable {
                 "An error occurred while executing the algorithm\n" +
                         "Code error: " + exception.getMessage()
         );
-        executeButton.setDisable(false);
     };
 
     @Override
@@ -91,6 +141,18 @@ public class Controller implements Initializable {
             if(controllerStructure != null) controllerStructure.execute();
         });
 
+        periodButton.setOnAction((ActionEvent event) -> {
+            if(controllerStructure != null) controllerStructure.analyze();
+        });
+
+        limitTextField.setText(System.getProperty("prng.job.limit", ""));
+        timeoutTextField.setText(System.getProperty("prng.job.timeout", ""));
+
+        cancelButton.disableProperty().bind(executeButton.disableProperty().not());
+        cancelButton.setOnAction((ActionEvent event) -> {
+            if(controllerStructure != null) controllerStructure.cancel();
+        });
+
         clearButton.setOnAction((ActionEvent event) -> {
             if(controllerStructure != null) controllerStructure.clear();
         });
@@ -136,16 +198,64 @@ public class Controller implements Initializable {
             }
         });
 
+        jumpButton.setOnAction((ActionEvent event) -> jump());
+        indexTextField.setOnAction((ActionEvent event) -> jump());
+
+        listView.setFixedCellSize(24);
+        listView.setCellFactory(view -> new ListCell<>() {
+            @Override
+            protected void updateItem(Double value, boolean empty) {
+                super.updateItem(value, empty);
+                setText(empty || value == null ? null : getIndex() + ": " + value);
+            }
+        });
+
         lifeCycleLabel.setText("...");
     }
 
+    private void show(Sequence sequence, long ready) {
+        if (listView.getItems() instanceof SequenceList list && list.getSequence() == sequence) {
+            list.grow(ready);
+        } else {
+            listView.setItems(new SequenceList(sequence, ready));
+        }
+    }
+
+    private void jump() {
+        int size = listView.getItems().size();
+        if (size == 0) return;
+
+        try {
+            long index = Long.parseLong(indexTextField.getText().trim());
+            if (index < 0 || index >= size) {
+                throw new InvalidInputException(
+                        "Index out of range",
+                        "Please enter an index between 0 and " + (size - 1) + ".",
+                        true
+                );
+            }
+            listView.scrollTo((int) index);
+            listView.getSelectionModel().select((int) index);
+        } catch (NumberFormatException e) {
+            AlertHandler.showAlert(new InvalidInputException(
+                    "Incorrect format",
+                    "Please enter a valid number.\n" +
+                            "Code error: " + e.getMessage(),
+                    false
+            ));
+        } catch (InvalidInputException e) {
+            AlertHandler.showAlert(e);
+        }
+    }
+
     public void loadPage(String path) throws IOException {
 
         FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(getClass().getResource(path));
         Node node = fxmlLoader.load();
+        if (controllerStructure != null) controllerStructure.cancel();
         controllerStructure = fxmlLoader.getController();
-        controllerStructure.setSharedComponents(this.executeButton, this.success, this.failure);
+        controllerStructure.setSharedComponents(this.executeButton, this.progressBar, this.budgets, this.success, this.progress, this.analysis, this.failure);
 
         Node center = borderPane.getCenter();
         assert center instanceof VBox;
@@ -1,15 +1,11 @@
 package com.simulation.prng.controllers.algorithms;
 
-import com.simulation.prng.models.MPM;
-import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.Form;
 import com.simulation.prng.utils.templates.ControllerTemplate;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 
 import java.util.List;
-import java.util.concurrent.Callable;
 
 public class MPMController extends ControllerTemplate {
 
@@ -24,12 +20,7 @@ public class MPMController extends ControllerTemplate {
     }
 
     @Override
-    protected Callable<ObservableList<Double>> createLogic(List<Long> parsedValues) {
-        long seed1 = parsedValues.get(0);
-        long seed2 = parsedValues.get(1);
-        return () -> {
-            AlgorithmTemplate MPM = new MPM(seed1, seed2);
-            return FXCollections.observableArrayList(MPM.generate());
-        };
+    protected Form getForm() {
+        return Form.MPM;
     }
 }
@@ -1,15 +1,11 @@
 package com.simulation.prng.controllers.algorithms;
 
-import com.simulation.prng.models.MSM;
-import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.Form;
 import com.simulation.prng.utils.templates.ControllerTemplate;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 
 import java.util.List;
-import java.util.concurrent.Callable;
 
 public class MSMController extends ControllerTemplate {
 
@@ -22,11 +18,7 @@ public class MSMController extends ControllerTemplate {
     }
 
     @Override
-    protected Callable<ObservableList<Double>> createLogic(List<Long> parsedValues) {
-        long seed = parsedValues.get(0);
-        return () -> {
-            AlgorithmTemplate MSM = new MSM(seed);
-            return FXCollections.observableArrayList(MSM.generate());
-        };
+    protected Form getForm() {
+        return Form.MSM;
     }
 }
@@ -0,0 +1,53 @@
+package com.simulation.prng.io;
+
+import com.simulation.prng.utils.Sequence;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+public class MappedSequence extends Sequence {
+
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final LongBuffer[] segments;
+    private final long size;
+
+    MappedSequence(FileChannel channel, long offset, long divisor, long size) throws IOException {
+        super(divisor);
+        this.size = size;
+        this.segments = new LongBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            long start = (long) segment << SEGMENT_SHIFT;
+            long length = Math.min(SEGMENT_SIZE, size - start);
+            segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start * Long.BYTES, length * Long.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asLongBuffer();
+        }
+    }
+
+    @Override
+    public long state(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void copyTo(long from, LongBuffer target, int length) {
+        while (length > 0) {
+            int segment = (int) (from >>> SEGMENT_SHIFT);
+            int start = (int) (from & SEGMENT_MASK);
+            int count = Math.min(length, SEGMENT_SIZE - start);
+            target.put(segments[segment].slice(start, count));
+            from += count;
+            length -= count;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.simulation.prng.io;
+
+import com.simulation.prng.utils.Sequence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public record SequenceFile(String algorithm, List<Long> parameters, Sequence sequence) {
+
+    private static final long MAGIC = 0x31514553474e5250L;
+    private static final int VERSION = 1;
+    private static final int PREAMBLE = 16;
+    private static final int HEADER = PREAMBLE + 2 * Integer.BYTES + 2 * Long.BYTES;
+
+    public static void write(Path path, String algorithm, List<Long> parameters, Sequence sequence) throws IOException {
+        byte[] name = algorithm.getBytes(StandardCharsets.UTF_8);
+        int length = PREAMBLE + Integer.BYTES + name.length + Integer.BYTES + parameters.size() * Long.BYTES + 2 * Long.BYTES;
+        int offset = (length + Long.BYTES - 1) & -Long.BYTES;
+
+        ByteBuffer header = ByteBuffer.allocate(offset).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(MAGIC).putInt(VERSION).putInt(offset);
+        header.putInt(name.length).put(name);
+        header.putInt(parameters.size());
+        for (long parameter : parameters) header.putLong(parameter);
+        header.putLong(sequence.divisor()).putLong(sequence.size());
+        header.rewind();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) channel.write(header, header.position());
+
+            long size = sequence.size();
+            for (long start = 0; start < size; start += MappedSequence.SEGMENT_SIZE) {
+                int count = (int) Math.min(MappedSequence.SEGMENT_SIZE, size - start);
+                LongBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, offset + start * Long.BYTES, (long) count * Long.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asLongBuffer();
+                sequence.copyTo(start, segment, count);
+            }
+        }
+    }
+
+    public static SequenceFile read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer preamble = readFully(channel, 0, PREAMBLE);
+            if (preamble.getLong() != MAGIC) throw new IOException("Not a sequence file: " + path);
+            int version = preamble.getInt();
+            if (version != VERSION) throw new IOException("Unsupported sequence file version: " + version);
+            int offset = preamble.getInt();
+            if (offset < HEADER || offset % Long.BYTES != 0 || offset > channel.size()) {
+                throw new IOException("Malformed sequence file header: data offset " + offset + " in " + path);
+            }
+
+            ByteBuffer header = readFully(channel, PREAMBLE, offset - PREAMBLE);
+            int length = header.getInt();
+            if (length < 0 || length > header.remaining() - Integer.BYTES - 2 * Long.BYTES) {
+                throw new IOException("Malformed sequence file header: algorithm name of " + length + " bytes in " + path);
+            }
+            byte[] name = new byte[length];
+            header.get(name);
+
+            int count = header.getInt();
+            if (count < 0 || count > (header.remaining() - 2 * Long.BYTES) / Long.BYTES) {
+                throw new IOException("Malformed sequence file header: " + count + " parameters in " + path);
+            }
+            List<Long> parameters = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) parameters.add(header.getLong());
+
+            long divisor = header.getLong();
+            long size = header.getLong();
+            if (size < 0) throw new IOException("Malformed sequence file header: " + size + " values in " + path);
+            try {
+                if (Math.addExact(offset, Math.multiplyExact(size, Long.BYTES)) > channel.size()) {
+                    throw new IOException("Truncated sequence file: " + path);
+                }
+            } catch (ArithmeticException e) {
+                throw new IOException("Malformed sequence file header: " + size + " values in " + path);
+            }
+
+            Sequence sequence = new MappedSequence(channel, offset, divisor, size);
+            return new SequenceFile(new String(name, StandardCharsets.UTF_8), List.copyOf(parameters), sequence);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new IOException("Unexpected end of file");
+        }
+        return buffer.flip();
+    }
+}
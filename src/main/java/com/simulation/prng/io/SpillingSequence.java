@@ -0,0 +1,252 @@
+package com.simulation.prng.io;
+
+import com.simulation.prng.utils.PagedSequence;
+import com.simulation.prng.utils.WritableSequence;
+
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class SpillingSequence extends WritableSequence implements AutoCloseable {
+
+    private static final int SEGMENT_SHIFT = MappedSequence.SEGMENT_SHIFT;
+    private static final int SEGMENT_SIZE = MappedSequence.SEGMENT_SIZE;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private static final String PREFIX = "prng-";
+    private static final String SUFFIX = ".spill";
+    private static final Duration STALE = Duration.ofMinutes(1);
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Unsafe UNSAFE = unsafe();
+
+    private final PagedSequence heap;
+    private final long heapLimit;
+    private final Path directory;
+    private final Spill spill = new Spill();
+    private final Cleaner.Cleanable cleanable;
+
+    private volatile AtomicReferenceArray<LongBuffer> segments = new AtomicReferenceArray<>(0);
+    private volatile boolean closed;
+    private long size;
+
+    public SpillingSequence(long divisor, long heapBudget, Path directory) {
+        super(divisor);
+        this.heap = new PagedSequence(divisor);
+        this.heapLimit = Math.max(0, heapBudget / Long.BYTES) >>> PagedSequence.PAGE_SHIFT << PagedSequence.PAGE_SHIFT;
+        this.directory = directory;
+        this.cleanable = CLEANER.register(this, spill);
+    }
+
+    public SpillingSequence(long divisor, long size, long heapBudget, Path directory) {
+        super(divisor);
+        this.heapLimit = Math.min(size, Math.max(0, heapBudget / Long.BYTES) >>> PagedSequence.PAGE_SHIFT << PagedSequence.PAGE_SHIFT);
+        this.heap = new PagedSequence(divisor, heapLimit);
+        this.directory = directory;
+        this.cleanable = CLEANER.register(this, spill);
+        this.size = size;
+        if (size > heapLimit) {
+            int count = segments(size - heapLimit);
+            reserve(size - heapLimit);
+            segments = new AtomicReferenceArray<>(count);
+        }
+    }
+
+    @Override
+    public void add(long state) {
+        if (size < heapLimit) {
+            heap.add(state);
+        } else {
+            long spilled = size - heapLimit;
+            if (spilled == (long) segments.length() << SEGMENT_SHIFT) grow(spilled + 1);
+            segment(spilled).put((int) (spilled & SEGMENT_MASK), state);
+        }
+        size++;
+    }
+
+    @Override
+    public void set(long index, long state) {
+        if (index < heapLimit) {
+            heap.set(index, state);
+        } else {
+            long spilled = index - heapLimit;
+            segment(spilled).put((int) (spilled & SEGMENT_MASK), state);
+        }
+    }
+
+    @Override
+    public long state(long index) {
+        if (index < heapLimit) return heap.state(index);
+
+        long spilled = index - heapLimit;
+        return segment(spilled).get((int) (spilled & SEGMENT_MASK));
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void copyTo(long from, LongBuffer target, int length) {
+        if (from < heapLimit) {
+            int count = (int) Math.min(length, heapLimit - from);
+            heap.copyTo(from, target, count);
+            from += count;
+            length -= count;
+        }
+
+        while (length > 0) {
+            long spilled = from - heapLimit;
+            int start = (int) (spilled & SEGMENT_MASK);
+            int count = Math.min(length, SEGMENT_SIZE - start);
+            target.put(segment(spilled).slice(start, count));
+            from += count;
+            length -= count;
+        }
+    }
+
+    public long spilled() {
+        return Math.max(0, size - heapLimit);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        segments = new AtomicReferenceArray<>(0);
+        cleanable.clean();
+    }
+
+    public static void sweep(Path directory) {
+        if (!Files.isDirectory(directory)) return;
+
+        Instant cutoff = Instant.now().minus(STALE);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                }
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void grow(long capacity) {
+        int count = segments(capacity);
+        AtomicReferenceArray<LongBuffer> current = segments;
+        AtomicReferenceArray<LongBuffer> grown = new AtomicReferenceArray<>(count);
+        for (int segment = 0; segment < current.length(); segment++) grown.set(segment, current.get(segment));
+        segments = grown;
+    }
+
+    private LongBuffer segment(long spilled) {
+        if (closed) throw new IllegalStateException("Spilled sequence already closed");
+
+        AtomicReferenceArray<LongBuffer> current = segments;
+        int index = (int) (spilled >>> SEGMENT_SHIFT);
+        LongBuffer segment = current.get(index);
+        if (segment != null) return segment;
+
+        synchronized (current) {
+            segment = current.get(index);
+            if (segment == null) {
+                reserve(SEGMENT_SIZE);
+                segment = map();
+                current.set(index, segment);
+            }
+            return segment;
+        }
+    }
+
+    private static int segments(long capacity) {
+        long count = (capacity + SEGMENT_MASK) >>> SEGMENT_SHIFT;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot spill " + capacity + " values: " + count + " segments exceed the supported maximum of " + Integer.MAX_VALUE);
+        }
+        return (int) count;
+    }
+
+    private void reserve(long values) {
+        long bytes = Storage.estimate(values);
+        long usable;
+        try {
+            Files.createDirectories(directory);
+            usable = Files.getFileStore(directory).getUsableSpace();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot spill sequence to " + directory, e);
+        }
+        if (bytes > usable) {
+            throw new IllegalStateException("Cannot spill " + values + " values to " + directory + ": " + bytes + " bytes needed, " + usable + " usable");
+        }
+    }
+
+    private LongBuffer map() {
+        try {
+            Path file = Files.createTempFile(directory, PREFIX, SUFFIX);
+            MappedByteBuffer mapping;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SEGMENT_SIZE * Long.BYTES);
+            }
+            spill.track(mapping, file);
+            return mapping.order(ByteOrder.nativeOrder()).asLongBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot spill sequence to " + directory, e);
+        }
+    }
+
+    private static Unsafe unsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static class Spill implements Runnable {
+
+        private final List<MappedByteBuffer> mappings = new ArrayList<>();
+        private final List<Path> files = new ArrayList<>();
+
+        synchronized void track(MappedByteBuffer mapping, Path file) {
+            mappings.add(mapping);
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                files.add(file);
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            if (UNSAFE != null) mappings.forEach(UNSAFE::invokeCleaner);
+            mappings.clear();
+
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                }
+            }
+            files.clear();
+        }
+    }
+}
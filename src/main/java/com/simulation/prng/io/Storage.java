@@ -0,0 +1,47 @@
+package com.simulation.prng.io;
+
+import com.simulation.prng.utils.PagedSequence;
+import com.simulation.prng.utils.WritableSequence;
+
+import java.nio.file.Path;
+
+public class Storage {
+
+    private static volatile long heapBudget = Long.getLong("prng.heap.budget", Runtime.getRuntime().maxMemory() / 2);
+    private static volatile Path spillDirectory = Path.of(System.getProperty("prng.spill.dir", System.getProperty("java.io.tmpdir")));
+
+    public static long getHeapBudget() {
+        return heapBudget;
+    }
+
+    public static void setHeapBudget(long bytes) {
+        if (bytes < 0) throw new IllegalArgumentException("budget must be non-negative");
+        heapBudget = bytes;
+    }
+
+    public static Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public static void setSpillDirectory(Path directory) {
+        spillDirectory = directory;
+    }
+
+    public static void sweep() {
+        SpillingSequence.sweep(spillDirectory);
+    }
+
+    public static long estimate(long values) {
+        return values > Long.MAX_VALUE / Long.BYTES ? Long.MAX_VALUE : values * Long.BYTES;
+    }
+
+    public static WritableSequence growable(long divisor, long bound) {
+        if (bound > 0 && estimate(bound) <= heapBudget) return new PagedSequence(divisor);
+        return new SpillingSequence(divisor, heapBudget, spillDirectory);
+    }
+
+    public static WritableSequence presized(long divisor, long size) {
+        if (estimate(size) <= heapBudget) return new PagedSequence(divisor, size);
+        return new SpillingSequence(divisor, size, heapBudget, spillDirectory);
+    }
+}
@@ -1,32 +1,149 @@
 package com.simulation.prng.models;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import com.simulation.prng.utils.detectors.RepeatDetector;
+import com.simulation.prng.utils.math.NumberTheory;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+
 import java.util.List;
-import java.util.stream.Collectors;
 
-public class ACG {
+public class ACG extends AlgorithmTemplate {
 
-    public static List<Double> generate(List<Long> seeds, long modulus) {
-        List<Long> sequence = new ArrayList<>(seeds);
-        HashSet<Long> uniques = new HashSet<>(seeds);
+    private static final long HASH_BASE = 0x9E3779B97F4A7C15L;
 
-        int k = seeds.size();
+    private final long[] seeds;
+    private final long modulus;
+    private final long base;
+    private final long leading;
 
-        while (true) {
-            int n = sequence.size();
+    private long[] window;
+    private int oldest;
+    private long hash;
 
-            long term1 = sequence.get(n - 1);
-            long term2 = sequence.get(n - k);
-            long current = (term1 + term2) % modulus;
+    public ACG(List<Long> seeds, long modulus) {
+        if (seeds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        this.seeds = seeds.stream().mapToLong(Long::longValue).toArray();
+        this.modulus = modulus;
+        this.base = exactBase(modulus, this.seeds.length);
 
-            if (uniques.add(current)) sequence.add(current);
-            else break;
+        long leading = 1;
+        for (int i = 1; i < this.seeds.length; i++) leading *= base;
+        this.leading = leading;
+    }
+
+    @Override
+    protected void initialize() {
+        this.window = new long[seeds.length];
+        this.oldest = 0;
+        this.hash = 0;
+        for (int i = 0; i < seeds.length; i++) {
+            window[i] = seeds[i] % modulus;
+            hash = hash * base + window[i];
         }
+    }
+
+    @Override
+    protected long next() {
+        int newest = (oldest == 0 ? window.length : oldest) - 1;
+        return NumberTheory.addMod(window[newest], window[oldest], modulus);
+    }
+
+    @Override
+    protected long divisor() {
+        return modulus - 1;
+    }
 
-        return sequence.stream()
-                .skip(seeds.size())
-                .map(n -> (double) n / (modulus - 1))
-                .collect(Collectors.toList());
+    @Override
+    protected void update(long next) {
+        hash = key(next);
+        window[oldest] = next;
+        oldest = oldest + 1 == window.length ? 0 : oldest + 1;
+    }
+
+    @Override
+    protected long key(long next) {
+        return (hash - window[oldest] * leading) * base + next;
+    }
+
+    @Override
+    protected long range() {
+        return modulus;
+    }
+
+    @Override
+    protected long stateBound() {
+        return base == modulus ? leading * modulus : 0;
+    }
+
+    @Override
+    protected RepeatDetector detector(long expected) {
+        if (base == modulus) return super.detector(expected);
+        return new FirstWindow();
+    }
+
+    @Override
+    protected AlgorithmTemplate copy() {
+        ACG copy = (ACG) super.copy();
+        if (this.window != null) copy.window = this.window.clone();
+        return copy;
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        ACG that = (ACG) other;
+        if (this.hash != that.hash) return false;
+
+        int k = window.length;
+        for (int i = 0; i < k; i++) {
+            if (this.window[(this.oldest + i) % k] != that.window[(that.oldest + i) % k]) return false;
+        }
+        return true;
+    }
+
+    // With two or more lags the step is invertible, so the orbit is a pure
+    // cycle and the first repeated window is always the first one produced.
+    private class FirstWindow implements RepeatDetector {
+
+        private long[] first;
+        private long firstKey;
+        private long size;
+
+        @Override
+        public boolean add(long key) {
+            long next = NumberTheory.addMod(window[(oldest == 0 ? window.length : oldest) - 1], window[oldest], modulus);
+            if (first == null) {
+                first = new long[window.length];
+                for (int i = 1; i < window.length; i++) first[i - 1] = window[(oldest + i) % window.length];
+                first[window.length - 1] = next;
+                firstKey = key;
+            } else if (key == firstKey && repeatsFirst(next)) {
+                return false;
+            }
+            size++;
+            return true;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        private boolean repeatsFirst(long next) {
+            int k = window.length;
+            for (int i = 1; i < k; i++) {
+                if (first[i - 1] != window[(oldest + i) % k]) return false;
+            }
+            return first[k - 1] == next;
+        }
+    }
+
+    private static long exactBase(long modulus, int k) {
+        long states = 1;
+        for (int i = 0; i < k; i++) {
+            if (states > Long.MAX_VALUE / modulus) return HASH_BASE;
+            states *= modulus;
+        }
+        return modulus;
     }
 }
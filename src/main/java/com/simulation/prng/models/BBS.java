@@ -1,5 +1,6 @@
 package com.simulation.prng.models;
 
+import com.simulation.prng.utils.math.Modulus;
 import com.simulation.prng.utils.templates.AlgorithmTemplate;
 
 public class BBS extends AlgorithmTemplate {
@@ -8,6 +9,7 @@ public class BBS extends AlgorithmTemplate {
     private final long p;
     private final long q;
     private long modulus;
+    private Modulus arithmetic;
 
     private long current;
 
@@ -22,13 +24,14 @@ public class BBS extends AlgorithmTemplate {
 
     @Override
     protected void initialize() {
-        this.current = this.seed;
-        this.modulus = p * q;
+        this.modulus = Math.multiplyExact(p, q);
+        this.arithmetic = Modulus.of(this.modulus);
+        this.current = arithmetic.reduce(this.seed);
     }
 
     @Override
     protected long next() {
-        return (this.current * this.current) % this.modulus;
+        return arithmetic.multiply(this.current, this.current);
     }
 
     @Override
@@ -40,4 +43,14 @@ public class BBS extends AlgorithmTemplate {
     protected void update(long next) {
         this.current = next;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected long stateBound() {
+        return this.modulus;
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((BBS) other).current;
+    }
+}
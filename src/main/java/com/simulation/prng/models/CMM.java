@@ -10,7 +10,6 @@ public class CMM extends AlgorithmTemplate {
 
     private long current;
     private int length;
-    private String format;
 
     public CMM(long seed, long constant) {
         this.seed = seed;
@@ -20,22 +19,31 @@ public class CMM extends AlgorithmTemplate {
     @Override
     protected void initialize() {
         this.current = this.seed;
-        this.length = String.valueOf(this.current).length();
-        this.format = "%0"+ (2 * this.length) + "d";
+        this.length = Pattern.length(this.current);
     }
 
     @Override
     protected long next() {
-        return Pattern.apply(current, constant, length, format);
+        return Pattern.apply(current, constant, length);
     }
 
     @Override
     protected long divisor() {
-        return (long) Math.pow(10, this.length);
+        return Pattern.power(this.length);
     }
 
     @Override
     protected void update(long next) {
         current = next;
     }
+
+    @Override
+    protected long stateBound() {
+        return Pattern.power(this.length);
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((CMM) other).current;
+    }
 }
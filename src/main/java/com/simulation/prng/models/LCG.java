@@ -1,14 +1,23 @@
 package com.simulation.prng.models;
 
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.math.AffineMap;
+import com.simulation.prng.utils.math.AffinePeriod;
+import com.simulation.prng.utils.math.Modulus;
 import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.templates.Budget;
+import com.simulation.prng.utils.templates.Jumpable;
 
-public class LCG extends AlgorithmTemplate {
+import java.util.function.LongUnaryOperator;
+
+public class LCG extends AlgorithmTemplate implements Jumpable {
 
     private final long seed;
     private final long multiplier;
     private final long increment;
     private final long modulus;
 
+    private LongUnaryOperator step;
     private long current;
 
     public LCG(long seed, long multiplier, long increment, long modulus) {
@@ -18,14 +27,37 @@ public class LCG extends AlgorithmTemplate {
         this.modulus = modulus;
     }
 
+    @Override
+    public Period period(Budget budget) {
+        return AffinePeriod.of(this.seed, this.multiplier, this.increment, this.modulus);
+    }
+
+    @Override
+    public void jump(long n) {
+        if (n < 0) throw new IllegalArgumentException("Cannot jump backwards: " + n);
+        if (n == 0) return;
+
+        LCG cursor = (LCG) cursor();
+        cursor.current = new AffineMap(this.multiplier, this.increment, this.modulus).power(n).apply(cursor.current);
+    }
+
+    @Override
+    public Jumpable copyAndJump(long n) {
+        LCG copy = (LCG) copy();
+        copy.jump(n);
+        return copy;
+    }
+
     @Override
     protected void initialize() {
-        this.current = this.seed;
+        Modulus arithmetic = Modulus.of(this.modulus);
+        this.step = arithmetic.affineStep(this.multiplier, this.increment);
+        this.current = arithmetic.reduce(this.seed);
     }
 
     @Override
     protected long next() {
-        return (this.multiplier * this.current + this.increment) % modulus;
+        return step.applyAsLong(current);
     }
 
     @Override
@@ -37,4 +69,14 @@ public class LCG extends AlgorithmTemplate {
     protected void update(long next) {
         this.current = next;
     }
+
+    @Override
+    protected long stateBound() {
+        return this.modulus;
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((LCG) other).current;
+    }
 }
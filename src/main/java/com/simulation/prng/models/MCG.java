@@ -1,13 +1,22 @@
 package com.simulation.prng.models;
 
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.math.AffineMap;
+import com.simulation.prng.utils.math.AffinePeriod;
+import com.simulation.prng.utils.math.Modulus;
 import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import com.simulation.prng.utils.templates.Budget;
+import com.simulation.prng.utils.templates.Jumpable;
 
-public class MCG extends AlgorithmTemplate {
+import java.util.function.LongUnaryOperator;
+
+public class MCG extends AlgorithmTemplate implements Jumpable {
 
     private final long seed;
     private final long multiplier;
     private final long modulus;
 
+    private LongUnaryOperator step;
     private long current;
 
     public MCG(long seed, long multiplier, long modulus) {
@@ -16,14 +25,37 @@ public class MCG extends AlgorithmTemplate {
         this.modulus = modulus;
     }
 
+    @Override
+    public Period period(Budget budget) {
+        return AffinePeriod.of(this.seed, this.multiplier, 0, this.modulus);
+    }
+
+    @Override
+    public void jump(long n) {
+        if (n < 0) throw new IllegalArgumentException("Cannot jump backwards: " + n);
+        if (n == 0) return;
+
+        MCG cursor = (MCG) cursor();
+        cursor.current = new AffineMap(this.multiplier, 0, this.modulus).power(n).apply(cursor.current);
+    }
+
+    @Override
+    public Jumpable copyAndJump(long n) {
+        MCG copy = (MCG) copy();
+        copy.jump(n);
+        return copy;
+    }
+
     @Override
     protected void initialize() {
-        this.current = this.seed;
+        Modulus arithmetic = Modulus.of(this.modulus);
+        this.step = arithmetic.affineStep(this.multiplier, 0);
+        this.current = arithmetic.reduce(this.seed);
     }
 
     @Override
     protected long next() {
-        return (this.multiplier * this.current) % modulus;
+        return step.applyAsLong(current);
     }
 
     @Override
@@ -35,4 +67,14 @@ public class MCG extends AlgorithmTemplate {
     protected void update(long next) {
         this.current = next;
     }
+
+    @Override
+    protected long stateBound() {
+        return this.modulus;
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((MCG) other).current;
+    }
 }
@@ -11,7 +11,6 @@ public class MPM extends AlgorithmTemplate {
     private long current1;
     private long current2;
     private int length;
-    private String format;
 
     public MPM(long seed1, long seed2) {
         this.seed1 = seed1;
@@ -22,18 +21,17 @@ public class MPM extends AlgorithmTemplate {
     protected void initialize() {
         this.current1 = seed1;
         this.current2 = seed2;
-        this.length = String.valueOf(this.current1).length();
-        this.format = "%0"+ (2 * this.length) + "d";
+        this.length = Pattern.length(this.current1);
     }
 
     @Override
     protected long next() {
-        return Pattern.apply(current1, current2, length, format);
+        return Pattern.apply(current1, current2, length);
     }
 
     @Override
     protected long divisor() {
-        return (long) Math.pow(10, this.length);
+        return Pattern.power(this.length);
     }
 
     @Override
@@ -41,4 +39,15 @@ public class MPM extends AlgorithmTemplate {
         this.current1 = this.current2;
         this.current2 = next;
     }
+
+    @Override
+    protected long stateBound() {
+        return Pattern.power(this.length);
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        MPM that = (MPM) other;
+        return this.current1 == that.current1 && this.current2 == that.current2;
+    }
 }
@@ -9,7 +9,6 @@ public class MSM extends AlgorithmTemplate {
 
     private long current;
     private int length;
-    private String format;
 
     public MSM(long seed) {
         this.seed = seed;
@@ -18,22 +17,31 @@ public class MSM extends AlgorithmTemplate {
     @Override
     protected void initialize() {
         this.current = this.seed;
-        this.length = String.valueOf(this.current).length();
-        this.format = "%0"+ (2 * this.length) + "d";
+        this.length = Pattern.length(this.current);
     }
 
     @Override
     protected long next() {
-        return Pattern.apply(current, current, length, format);
+        return Pattern.apply(current, current, length);
     }
 
     @Override
     protected long divisor() {
-        return (long) Math.pow(10, this.length);
+        return Pattern.power(this.length);
     }
 
     @Override
     protected void update(long next) {
         this.current = next;
     }
+
+    @Override
+    protected long stateBound() {
+        return Pattern.power(this.length);
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((MSM) other).current;
+    }
 }
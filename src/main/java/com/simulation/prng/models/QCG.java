@@ -1,5 +1,6 @@
 package com.simulation.prng.models;
 
+import com.simulation.prng.utils.math.Modulus;
 import com.simulation.prng.utils.templates.AlgorithmTemplate;
 
 public class QCG extends AlgorithmTemplate {
@@ -10,6 +11,10 @@ public class QCG extends AlgorithmTemplate {
     private final long c;
     private final long modulus;
 
+    private Modulus arithmetic;
+    private long preparedA;
+    private long reducedB;
+    private long reducedC;
     private long current;
 
     public QCG(long seed, long a, long b, long c, long modulus) {
@@ -22,25 +27,36 @@ public class QCG extends AlgorithmTemplate {
 
     @Override
     protected void initialize() {
-        this.current = this.seed;
+        this.arithmetic = Modulus.of(this.modulus);
+        this.preparedA = arithmetic.prepare(this.a);
+        this.reducedB = arithmetic.reduce(this.b);
+        this.reducedC = arithmetic.reduce(this.c);
+        this.current = arithmetic.reduce(this.seed);
     }
 
     @Override
     protected long next() {
-        long nextValue = (a * (current * current) + b * current + c) % modulus;
-        if (nextValue < 0) {
-            nextValue += modulus;
-        }
-        return nextValue;
+        long linear = arithmetic.add(arithmetic.multiplyPrepared(preparedA, current), reducedB);
+        return arithmetic.add(arithmetic.multiply(linear, current), reducedC);
     }
 
     @Override
     protected long divisor() {
-        return 1;
+        return this.modulus - 1;
     }
 
     @Override
     protected void update(long next) {
         this.current = next;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected long stateBound() {
+        return this.modulus;
+    }
+
+    @Override
+    protected boolean sameState(AlgorithmTemplate other) {
+        return this.current == ((QCG) other).current;
+    }
+}
@@ -0,0 +1,39 @@
+package com.simulation.prng.statistics;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+class Chunks<T> extends RecursiveTask<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    interface Leaf<T> {
+        T compute(long from, long to);
+    }
+
+    private final Leaf<T> leaf;
+    private final BinaryOperator<T> merge;
+    private final long chunk;
+    private final long from;
+    private final long to;
+
+    Chunks(Leaf<T> leaf, BinaryOperator<T> merge, long chunk, long from, long to) {
+        this.leaf = leaf;
+        this.merge = merge;
+        this.chunk = chunk;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected T compute() {
+        long chunks = (to - from + chunk - 1) / chunk;
+        if (chunks <= 1) return leaf.compute(from, to);
+
+        long middle = from + chunks / 2 * chunk;
+        Chunks<T> left = new Chunks<>(leaf, merge, chunk, from, middle);
+        left.fork();
+        T right = new Chunks<>(leaf, merge, chunk, middle, to).compute();
+        return merge.apply(left.join(), right);
+    }
+}
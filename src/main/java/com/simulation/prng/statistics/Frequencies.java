@@ -0,0 +1,37 @@
+package com.simulation.prng.statistics;
+
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+
+import java.util.function.DoubleConsumer;
+
+class Frequencies implements DoubleConsumer {
+
+    private static final int BINS = 10;
+
+    private final long[] observed = new long[BINS];
+    private long n;
+
+    @Override
+    public void accept(double value) {
+        observed[Math.min((int) (value * BINS), BINS - 1)]++;
+        n++;
+    }
+
+    Frequencies merge(Frequencies other) {
+        for (int i = 0; i < BINS; i++) observed[i] += other.observed[i];
+        n += other.n;
+        return this;
+    }
+
+    TestResult result() {
+        double expected = (double) n / BINS;
+
+        double chiSquare = 0.0;
+        for (int i = 0; i < BINS; i++) {
+            chiSquare += Math.pow(observed[i] - expected, 2) / expected;
+        }
+
+        double pValue = 1.0 - new ChiSquaredDistribution(BINS - 1).cumulativeProbability(chiSquare);
+        return new TestResult(chiSquare, pValue, pValue > RandomnessTests.ALPHA);
+    }
+}
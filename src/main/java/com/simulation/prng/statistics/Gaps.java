@@ -0,0 +1,79 @@
+package com.simulation.prng.statistics;
+
+import java.util.function.DoubleConsumer;
+
+class Gaps implements DoubleConsumer {
+
+    private final double alpha;
+    private final double beta;
+    private final int maxGap;
+    private final long[] observed;
+    private long gaps;
+    private long leading;
+    private long current = -1;
+
+    Gaps(double alpha, double beta, int maxGap) {
+        this.alpha = alpha;
+        this.beta = beta;
+        this.maxGap = maxGap;
+        this.observed = new long[maxGap + 1];
+    }
+
+    @Override
+    public void accept(double value) {
+        if (value >= alpha && value < beta) {
+            if (current >= 0) {
+                observed[(int) Math.min(current, maxGap)]++;
+                gaps++;
+            }
+            current = 0;
+        } else if (current >= 0) {
+            current++;
+        } else {
+            leading++;
+        }
+    }
+
+    Gaps merge(Gaps other) {
+        if (other.current < 0) {
+            if (current >= 0) current += other.leading;
+            else leading += other.leading;
+            return this;
+        }
+
+        if (current >= 0) {
+            observed[(int) Math.min(current + other.leading, maxGap)]++;
+            gaps++;
+        } else {
+            leading += other.leading;
+        }
+
+        for (int i = 0; i <= maxGap; i++) observed[i] += other.observed[i];
+        gaps += other.gaps;
+        current = other.current;
+        return this;
+    }
+
+    TestResult result() {
+        if (gaps < 10) {
+            return new TestResult(0.0, 0.0, false);
+        }
+
+        double p = beta - alpha;
+        double chiSquare = 0.0;
+        int validCategories = 0;
+
+        for (int i = 0; i <= maxGap; i++) {
+            double expected = i < maxGap
+                    ? gaps * Math.pow(1 - p, i) * p
+                    : gaps * Math.pow(1 - p, maxGap);
+
+            if (expected >= 5) {
+                chiSquare += Math.pow(observed[i] - expected, 2) / expected;
+                validCategories++;
+            }
+        }
+
+        return RandomnessTests.chiSquareResult(chiSquare, validCategories);
+    }
+}
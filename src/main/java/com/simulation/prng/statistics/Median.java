@@ -0,0 +1,237 @@
+package com.simulation.prng.statistics;
+
+import com.simulation.prng.utils.Sequence;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+
+public class Median {
+
+    private static final int BUCKETS = 1 << 16;
+    private static final int COLLECT_LIMIT = 1 << 20;
+    private static final long PARALLEL_CHUNK = 1 << 21;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static volatile long scratchBudget = Long.getLong("prng.median.scratch", Runtime.getRuntime().maxMemory() / 4);
+
+    public static double of(Sequence data) {
+        long n = data.size();
+        if (n == 0) return Double.NaN;
+        if (fits(n)) return select(data);
+
+        double lo = Double.POSITIVE_INFINITY;
+        double hi = Double.NEGATIVE_INFINITY;
+        for (long i = 0; i < n; i++) {
+            double value = data.get(i);
+            lo = Math.min(lo, value);
+            hi = Math.max(hi, value);
+        }
+        return buckets(data, lo, hi, null);
+    }
+
+    static double of(Sequence data, double lo, double hi) {
+        long n = data.size();
+        if (n == 0) return Double.NaN;
+        return fits(n) ? select(data) : buckets(data, lo, hi, null);
+    }
+
+    static double of(Sequence data, double lo, double hi, ForkJoinPool pool) {
+        if (data.isEmpty()) return Double.NaN;
+        return buckets(data, lo, hi, pool);
+    }
+
+    public static double approximate(Sequence data) {
+        P2Quantile quantile = new P2Quantile(0.5);
+        data.forEach(quantile);
+        return quantile.quantile();
+    }
+
+    public static long getScratchBudget() {
+        return scratchBudget;
+    }
+
+    public static void setScratchBudget(long bytes) {
+        if (bytes < 0) throw new IllegalArgumentException("budget must be non-negative");
+        scratchBudget = bytes;
+    }
+
+    private static boolean fits(long n) {
+        return n <= MAX_ARRAY_SIZE && n * Long.BYTES <= scratchBudget;
+    }
+
+    private static double select(Sequence data) {
+        long[] states = new long[(int) data.size()];
+        data.copyTo(0, LongBuffer.wrap(states), states.length);
+
+        int lowerRank = (states.length - 1) / 2;
+        long lower = select(states, lowerRank);
+        long upper = lower;
+        if ((states.length & 1) == 0) {
+            upper = Long.MAX_VALUE;
+            for (int i = lowerRank + 1; i < states.length; i++) upper = Math.min(upper, states[i]);
+        }
+
+        double divisor = data.divisor();
+        return interpolate(lower / divisor, upper / divisor, states.length);
+    }
+
+    private static long select(long[] values, int rank) {
+        int lo = 0;
+        int hi = values.length - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+
+        while (lo < hi) {
+            if (--depth < 0) {
+                Arrays.sort(values, lo, hi + 1);
+                return values[rank];
+            }
+
+            int middle = (lo + hi) >>> 1;
+            if (values[middle] < values[lo]) swap(values, lo, middle);
+            if (values[hi] < values[lo]) swap(values, lo, hi);
+            if (values[hi] < values[middle]) swap(values, middle, hi);
+            long pivot = values[middle];
+
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) swap(values, i++, j--);
+            }
+
+            if (rank <= j) hi = j;
+            else if (rank >= i) lo = i;
+            else return values[rank];
+        }
+        return values[rank];
+    }
+
+    private static void swap(long[] values, int i, int j) {
+        long value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    private static double buckets(Sequence data, double lo, double hi, ForkJoinPool pool) {
+        long n = data.size();
+        long lowerRank = (n - 1) / 2;
+        long upperRank = n / 2;
+
+        while (lo < hi) {
+            double low = lo;
+            double high = hi;
+            Histogram histogram = pass(data, pool, (from, to) -> new Histogram(low, high).fill(data, from, to), Histogram::merge);
+            long[] counts = histogram.counts;
+
+            long before = 0;
+            int bucket = 0;
+            while (before + counts[bucket] <= lowerRank) before += counts[bucket++];
+
+            if (before + counts[bucket] <= upperRank) {
+                int next = bucket + 1;
+                while (counts[next] == 0) next++;
+                return interpolate(histogram.maximum[bucket], histogram.minimum[next], n);
+            }
+
+            lowerRank -= before;
+            upperRank -= before;
+            lo = histogram.minimum[bucket];
+            hi = histogram.maximum[bucket];
+
+            if (counts[bucket] <= COLLECT_LIMIT && lo < hi) {
+                double first = lo;
+                double last = hi;
+                Candidates candidates = pass(data, pool, (from, to) -> new Candidates(first, last).fill(data, from, to), Candidates::merge);
+                double[] values = Arrays.copyOf(candidates.values, candidates.size);
+                Arrays.sort(values);
+                return interpolate(values[(int) lowerRank], values[(int) upperRank], n);
+            }
+        }
+        return lo;
+    }
+
+    private static <T> T pass(Sequence data, ForkJoinPool pool, Chunks.Leaf<T> leaf, BinaryOperator<T> merge) {
+        if (pool == null) return leaf.compute(0, data.size());
+        return pool.invoke(new Chunks<>(leaf, merge, PARALLEL_CHUNK, 0, data.size()));
+    }
+
+    private static class Histogram {
+
+        private final double lo;
+        private final double hi;
+        private final double scale;
+        private final long[] counts = new long[BUCKETS];
+        private final double[] minimum = new double[BUCKETS];
+        private final double[] maximum = new double[BUCKETS];
+
+        Histogram(double lo, double hi) {
+            this.lo = lo;
+            this.hi = hi;
+            this.scale = BUCKETS / (hi - lo);
+            Arrays.fill(minimum, Double.POSITIVE_INFINITY);
+            Arrays.fill(maximum, Double.NEGATIVE_INFINITY);
+        }
+
+        Histogram fill(Sequence data, long from, long to) {
+            data.forEach(from, to, value -> {
+                if (value < lo || value > hi) return;
+
+                int bucket = bucket(value, lo, scale);
+                counts[bucket]++;
+                minimum[bucket] = Math.min(minimum[bucket], value);
+                maximum[bucket] = Math.max(maximum[bucket], value);
+            });
+            return this;
+        }
+
+        Histogram merge(Histogram other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+                minimum[i] = Math.min(minimum[i], other.minimum[i]);
+                maximum[i] = Math.max(maximum[i], other.maximum[i]);
+            }
+            return this;
+        }
+    }
+
+    private static class Candidates {
+
+        private final double lo;
+        private final double hi;
+        private double[] values = new double[16];
+        private int size;
+
+        Candidates(double lo, double hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        Candidates fill(Sequence data, long from, long to) {
+            data.forEach(from, to, value -> {
+                if (value >= lo && value <= hi) add(value);
+            });
+            return this;
+        }
+
+        Candidates merge(Candidates other) {
+            for (int i = 0; i < other.size; i++) add(other.values[i]);
+            return this;
+        }
+
+        private void add(double value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+
+    private static int bucket(double value, double lo, double scale) {
+        return Math.min(BUCKETS - 1, (int) ((value - lo) * scale));
+    }
+
+    private static double interpolate(double lower, double upper, long n) {
+        return (n & 1) == 1 ? lower : lower + 0.5 * (upper - lower);
+    }
+}
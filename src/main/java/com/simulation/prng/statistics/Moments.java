@@ -0,0 +1,54 @@
+package com.simulation.prng.statistics;
+
+import java.util.function.DoubleConsumer;
+
+class Moments implements DoubleConsumer {
+
+    private static final double SHIFT = 0.5;
+
+    private long n;
+    private double sum;
+    private double squares;
+    private double minimum = Double.POSITIVE_INFINITY;
+    private double maximum = Double.NEGATIVE_INFINITY;
+
+    @Override
+    public void accept(double value) {
+        double shifted = value - SHIFT;
+        n++;
+        sum += shifted;
+        squares += shifted * shifted;
+        minimum = Math.min(minimum, value);
+        maximum = Math.max(maximum, value);
+    }
+
+    Moments merge(Moments other) {
+        n += other.n;
+        sum += other.sum;
+        squares += other.squares;
+        minimum = Math.min(minimum, other.minimum);
+        maximum = Math.max(maximum, other.maximum);
+        return this;
+    }
+
+    long count() {
+        return n;
+    }
+
+    double mean() {
+        return SHIFT + sum / n;
+    }
+
+    double variance() {
+        if (n == 1) return 0.0;
+        return (squares - sum * sum / n) / (n - 1);
+    }
+
+    double minimum() {
+        return minimum;
+    }
+
+    double maximum() {
+        return maximum;
+    }
+}
@@ -0,0 +1,83 @@
+package com.simulation.prng.statistics;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+public class P2Quantile implements DoubleConsumer {
+
+    private static final int MARKERS = 5;
+
+    private final double p;
+    private final double[] heights = new double[MARKERS];
+    private final long[] positions = new long[MARKERS];
+    private final double[] increments;
+    private long count;
+
+    public P2Quantile(double p) {
+        if (!(p > 0 && p < 1)) throw new IllegalArgumentException("p must be in (0, 1): " + p);
+        this.p = p;
+        this.increments = new double[]{0, p / 2, p, (1 + p) / 2, 1};
+    }
+
+    @Override
+    public void accept(double value) {
+        if (count < MARKERS) {
+            heights[(int) count++] = value;
+            if (count == MARKERS) {
+                Arrays.sort(heights);
+                for (int i = 0; i < MARKERS; i++) positions[i] = i + 1;
+            }
+            return;
+        }
+
+        int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value >= heights[MARKERS - 1]) {
+            heights[MARKERS - 1] = value;
+            cell = MARKERS - 2;
+        } else {
+            cell = 0;
+            while (value >= heights[cell + 1]) cell++;
+        }
+
+        for (int i = cell + 1; i < MARKERS; i++) positions[i]++;
+        count++;
+
+        for (int i = 1; i < MARKERS - 1; i++) {
+            double offset = 1 + (count - 1) * increments[i] - positions[i];
+            if ((offset >= 1 && positions[i + 1] - positions[i] > 1) || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int step = offset > 0 ? 1 : -1;
+                double height = parabolic(i, step);
+                heights[i] = heights[i - 1] < height && height < heights[i + 1] ? height : linear(i, step);
+                positions[i] += step;
+            }
+        }
+    }
+
+    public double quantile() {
+        if (count == 0) return Double.NaN;
+        if (count >= MARKERS) return heights[2];
+
+        double[] values = Arrays.copyOf(heights, (int) count);
+        Arrays.sort(values);
+        return values[(int) Math.round(p * (count - 1))];
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private double parabolic(int i, int step) {
+        double below = positions[i] - positions[i - 1];
+        double above = positions[i + 1] - positions[i];
+        return heights[i] + step / (double) (positions[i + 1] - positions[i - 1]) *
+                ((below + step) * (heights[i + 1] - heights[i]) / above +
+                        (above - step) * (heights[i] - heights[i - 1]) / below);
+    }
+
+    private double linear(int i, int step) {
+        return heights[i] + step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+    }
+}
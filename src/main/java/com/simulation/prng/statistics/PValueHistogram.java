@@ -0,0 +1,88 @@
+package com.simulation.prng.statistics;
+
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+
+import java.util.function.DoubleConsumer;
+
+public class PValueHistogram implements DoubleConsumer {
+
+    public static final double UNIFORMITY_ALPHA = 0.0001;
+
+    private static final int RESOLUTION = 1000;
+    private static final int BINS = 10;
+
+    public static final int MINIMUM_SAMPLES = BINS * 5;
+    private static final int EXACT_LIMIT = 100;
+    private static final double NEGLIGIBLE_DISTANCE = 0.3;
+
+    private final long[] counts = new long[RESOLUTION];
+    private long n;
+    private long passed;
+
+    @Override
+    public void accept(double pValue) {
+        counts[Math.max(0, Math.min((int) (pValue * RESOLUTION), RESOLUTION - 1))]++;
+        n++;
+        if (pValue > RandomnessTests.ALPHA) passed++;
+    }
+
+    public PValueHistogram merge(PValueHistogram other) {
+        for (int i = 0; i < RESOLUTION; i++) counts[i] += other.counts[i];
+        n += other.n;
+        passed += other.passed;
+        return this;
+    }
+
+    public long count() {
+        return n;
+    }
+
+    public double passRate() {
+        return n == 0 ? Double.NaN : (double) passed / n;
+    }
+
+    public boolean sufficient() {
+        return n >= MINIMUM_SAMPLES;
+    }
+
+    public TestResult chiSquare() {
+        if (!sufficient()) {
+            return new TestResult(0.0, Double.NaN, false);
+        }
+
+        int width = RESOLUTION / BINS;
+        double expected = (double) n / BINS;
+        double chiSquare = 0.0;
+        for (int bin = 0; bin < BINS; bin++) {
+            long observed = 0;
+            for (int i = bin * width; i < (bin + 1) * width; i++) observed += counts[i];
+            chiSquare += Math.pow(observed - expected, 2) / expected;
+        }
+
+        double pValue = 1.0 - new ChiSquaredDistribution(BINS - 1).cumulativeProbability(chiSquare);
+        return new TestResult(chiSquare, pValue, pValue >= UNIFORMITY_ALPHA);
+    }
+
+    public TestResult kolmogorovSmirnov() {
+        if (n == 0 || n > Integer.MAX_VALUE) {
+            return new TestResult(0.0, 0.0, false);
+        }
+
+        long below = 0;
+        double distance = 0.0;
+        for (int i = 0; i < RESOLUTION; i++) {
+            distance = Math.max(distance, Math.abs((double) below / n - (double) i / RESOLUTION));
+            below += counts[i];
+            distance = Math.max(distance, Math.abs((double) below / n - (double) (i + 1) / RESOLUTION));
+        }
+
+        KolmogorovSmirnovTest distribution = new KolmogorovSmirnovTest();
+        // The Pelz-Good series stops converging for tiny distances, where the
+        // limiting distribution is below 1e-5 anyway.
+        double cdf = n <= EXACT_LIMIT ? distribution.cdf(distance, (int) n)
+                : distance * Math.sqrt(n) < NEGLIGIBLE_DISTANCE ? 0.0 : distribution.pelzGood(distance, (int) n);
+        double pValue = Math.max(0.0, 1.0 - cdf);
+        return new TestResult(distance, pValue, pValue >= UNIFORMITY_ALPHA);
+    }
+}
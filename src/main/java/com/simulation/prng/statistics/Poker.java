@@ -0,0 +1,81 @@
+package com.simulation.prng.statistics;
+
+import java.util.function.DoubleConsumer;
+
+class Poker implements DoubleConsumer {
+
+    private static final int DIGITS = 10;
+
+    private final int hand;
+    private final long[] observed;
+    private int mask;
+    private int dealt;
+    private long groups;
+
+    Poker(int hand) {
+        this.hand = hand;
+        this.observed = new long[Math.min(hand, DIGITS) + 1];
+    }
+
+    @Override
+    public void accept(double value) {
+        mask |= 1 << Math.min((int) (value * DIGITS), DIGITS - 1);
+        if (++dealt < hand) return;
+
+        observed[Integer.bitCount(mask)]++;
+        groups++;
+        mask = 0;
+        dealt = 0;
+    }
+
+    Poker merge(Poker other) {
+        if (dealt != 0) throw new IllegalStateException("Cannot merge after an incomplete hand");
+        for (int r = 0; r < observed.length; r++) observed[r] += other.observed[r];
+        groups += other.groups;
+        mask = other.mask;
+        dealt = other.dealt;
+        return this;
+    }
+
+    TestResult result() {
+        if (groups < 10) {
+            return new TestResult(0.0, 0.0, false);
+        }
+
+        double[] probabilities = probabilities(hand);
+        double chiSquare = 0.0;
+        int validCategories = 0;
+
+        for (int r = 1; r < observed.length; r++) {
+            double expected = groups * probabilities[r];
+
+            if (expected >= 5) {
+                chiSquare += Math.pow(observed[r] - expected, 2) / expected;
+                validCategories++;
+            }
+        }
+
+        return RandomnessTests.chiSquareResult(chiSquare, validCategories);
+    }
+
+    static double[] probabilities(int hand) {
+        int distinct = Math.min(hand, DIGITS);
+
+        double[] stirling = new double[distinct + 1];
+        stirling[0] = 1.0;
+        for (int n = 1; n <= hand; n++) {
+            for (int k = Math.min(n, distinct); k >= 1; k--) {
+                stirling[k] = k * stirling[k] + stirling[k - 1];
+            }
+            stirling[0] = 0.0;
+        }
+
+        double[] probabilities = new double[distinct + 1];
+        double falling = 1.0;
+        for (int r = 1; r <= distinct; r++) {
+            falling *= (DIGITS - r + 1);
+            probabilities[r] = falling * stirling[r] / Math.pow(DIGITS, hand);
+        }
+        return probabilities;
+    }
+}
@@ -0,0 +1,27 @@
+package com.simulation.prng.statistics;
+
+public enum RandomnessTest {
+    CHI_SQUARE("chi-square"),
+    RUNS("runs"),
+    RUNS_LENGTH("runs-length"),
+    GAPS("gaps"),
+    POKER("poker");
+
+    final String id;
+
+    RandomnessTest(String id) {
+        this.id = id;
+    }
+
+    public static RandomnessTest of(String id) {
+        for (RandomnessTest test : values()) {
+            if (test.id.equalsIgnoreCase(id) || test.name().equalsIgnoreCase(id)) return test;
+        }
+        throw new IllegalArgumentException("Unknown test: " + id);
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
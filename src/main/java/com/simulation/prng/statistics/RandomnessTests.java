@@ -0,0 +1,22 @@
+package com.simulation.prng.statistics;
+
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+
+public class RandomnessTests {
+
+    public static final double ALPHA = 0.05;
+
+    static TestResult chiSquareResult(double chiSquare, int validCategories) {
+        if (validCategories < 2) {
+            return new TestResult(0.0, 0.0, false);
+        }
+
+        int df = validCategories - 1;
+
+        ChiSquaredDistribution chiDist = new ChiSquaredDistribution(df);
+        double pValue = 1.0 - chiDist.cumulativeProbability(chiSquare);
+        boolean passed = pValue > ALPHA;
+
+        return new TestResult(chiSquare, pValue, passed);
+    }
+}
@@ -0,0 +1,67 @@
+package com.simulation.prng.statistics;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+
+import java.util.function.DoubleConsumer;
+
+class Runs implements DoubleConsumer {
+
+    private static final double EXPECTED_LENGTH = 2.0;
+
+    private final double median;
+    private long above;
+    private long below;
+    private long runs;
+    private boolean first;
+    private boolean previous;
+
+    Runs(double median) {
+        this.median = median;
+    }
+
+    @Override
+    public void accept(double value) {
+        boolean current = value >= median;
+        if (current) {
+            above++;
+        } else {
+            below++;
+        }
+
+        if (runs == 0) first = current;
+        if (runs == 0 || current != previous) runs++;
+        previous = current;
+    }
+
+    Runs merge(Runs other) {
+        if (other.runs == 0) return this;
+        if (runs == 0) first = other.first;
+
+        runs += other.runs - (runs > 0 && previous == other.first ? 1 : 0);
+        above += other.above;
+        below += other.below;
+        previous = other.previous;
+        return this;
+    }
+
+    TestResult runs() {
+        long n1 = above;
+        long n2 = below;
+        if (n1 == 0 || n2 == 0) {
+            return new TestResult(0.0, 1.0, false);
+        }
+
+        double expectedRuns = (2.0 * n1 * n2) / (n1 + n2) + 1;
+        double variance = (2.0 * n1 * n2 * (2.0 * n1 * n2 - n1 - n2)) /
+                (Math.pow(n1 + n2, 2) * (n1 + n2 - 1));
+
+        double zScore = (runs - expectedRuns) / Math.sqrt(variance);
+        double pValue = 2.0 * (1.0 - new NormalDistribution().cumulativeProbability(Math.abs(zScore)));
+        return new TestResult(zScore, pValue, pValue > RandomnessTests.ALPHA);
+    }
+
+    TestResult length() {
+        double average = (double) (above + below) / runs;
+        return new TestResult(average, 0.0, Math.abs(average - EXPECTED_LENGTH) < 0.5);
+    }
+}
@@ -0,0 +1,99 @@
+package com.simulation.prng.statistics;
+
+import com.simulation.prng.utils.Sequence;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
+
+public class TestEngine {
+
+    private static final long PARALLEL_CHUNK = 1 << 21;
+    private static final int PARALLEL_MEDIAN_THRESHOLD = 4;
+
+    public static TestReport run(Sequence data) {
+        return run(data, EnumSet.allOf(RandomnessTest.class));
+    }
+
+    public static TestReport run(Sequence data, Set<RandomnessTest> tests) {
+        return run(data, tests, TestSettings.DEFAULT);
+    }
+
+    public static TestReport run(Sequence data, Set<RandomnessTest> tests, TestSettings settings) {
+        return run(data, tests, settings, null);
+    }
+
+    public static TestReport run(Sequence data, Set<RandomnessTest> tests, TestSettings settings, ForkJoinPool pool) {
+        long chunk = Math.max(1, PARALLEL_CHUNK / settings.pokerHand()) * settings.pokerHand();
+        P2Quantile quantile = pool == null && settings.approximateMedian() ? new P2Quantile(0.5) : null;
+
+        Partial partial = pass(data, pool, chunk, (from, to) -> new Partial(settings, quantile).fill(data, from, to), Partial::merge);
+
+        Map<RandomnessTest, TestResult> results = new EnumMap<>(RandomnessTest.class);
+        if (tests.contains(RandomnessTest.CHI_SQUARE)) results.put(RandomnessTest.CHI_SQUARE, partial.frequencies.result());
+        if (tests.contains(RandomnessTest.GAPS)) results.put(RandomnessTest.GAPS, partial.gaps.result());
+        if (tests.contains(RandomnessTest.POKER)) results.put(RandomnessTest.POKER, partial.poker.result());
+
+        Moments moments = partial.moments;
+        if (moments.count() > 0 && (tests.contains(RandomnessTest.RUNS) || tests.contains(RandomnessTest.RUNS_LENGTH))) {
+            double median = quantile != null ? quantile.quantile()
+                    : pool != null && pool.getParallelism() >= PARALLEL_MEDIAN_THRESHOLD ? Median.of(data, moments.minimum(), moments.maximum(), pool)
+                    : Median.of(data, moments.minimum(), moments.maximum());
+
+            Runs runs = pass(data, pool, chunk, (from, to) -> fill(new Runs(median), data, from, to), Runs::merge);
+            if (tests.contains(RandomnessTest.RUNS)) results.put(RandomnessTest.RUNS, runs.runs());
+            if (tests.contains(RandomnessTest.RUNS_LENGTH)) results.put(RandomnessTest.RUNS_LENGTH, runs.length());
+        }
+
+        return new TestReport(moments.count(), moments.mean(), moments.variance(), Collections.unmodifiableMap(results));
+    }
+
+    private static <T> T pass(Sequence data, ForkJoinPool pool, long chunk, Chunks.Leaf<T> leaf, BinaryOperator<T> merge) {
+        if (pool == null) return leaf.compute(0, data.size());
+        return pool.invoke(new Chunks<>(leaf, merge, chunk, 0, data.size()));
+    }
+
+    private static <T extends DoubleConsumer> T fill(T accumulator, Sequence data, long from, long to) {
+        data.forEach(from, to, accumulator);
+        return accumulator;
+    }
+
+    private static class Partial {
+
+        private final Moments moments = new Moments();
+        private final Frequencies frequencies = new Frequencies();
+        private final Gaps gaps;
+        private final Poker poker;
+        private final P2Quantile quantile;
+
+        Partial(TestSettings settings, P2Quantile quantile) {
+            this.gaps = new Gaps(settings.gapAlpha(), settings.gapBeta(), settings.maxGap());
+            this.poker = new Poker(settings.pokerHand());
+            this.quantile = quantile;
+        }
+
+        Partial fill(Sequence data, long from, long to) {
+            data.forEach(from, to, value -> {
+                moments.accept(value);
+                frequencies.accept(value);
+                gaps.accept(value);
+                poker.accept(value);
+                if (quantile != null) quantile.accept(value);
+            });
+            return this;
+        }
+
+        Partial merge(Partial other) {
+            moments.merge(other.moments);
+            frequencies.merge(other.frequencies);
+            gaps.merge(other.gaps);
+            poker.merge(other.poker);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.simulation.prng.statistics;
+
+import java.util.Map;
+
+public record TestReport(long size, double mean, double variance, Map<RandomnessTest, TestResult> results) {
+
+    public TestResult get(RandomnessTest test) {
+        return results.get(test);
+    }
+}
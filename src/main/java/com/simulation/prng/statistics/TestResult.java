@@ -0,0 +1,4 @@
+package com.simulation.prng.statistics;
+
+public record TestResult(double statistic, double pValue, boolean passed) {
+}
@@ -0,0 +1,26 @@
+package com.simulation.prng.statistics;
+
+public record TestSettings(int pokerHand, double gapAlpha, double gapBeta, int maxGap, boolean approximateMedian) {
+
+    public static final TestSettings DEFAULT = new TestSettings(5, 0.0, 0.5, 5, false);
+
+    public TestSettings {
+        if (pokerHand < 1) throw new IllegalArgumentException("Poker hand size must be positive: " + pokerHand);
+        if (!(gapAlpha >= 0 && gapAlpha < gapBeta && gapBeta <= 1)) {
+            throw new IllegalArgumentException("Gap interval must satisfy 0 <= alpha < beta <= 1: [" + gapAlpha + ", " + gapBeta + "]");
+        }
+        if (maxGap < 1) throw new IllegalArgumentException("Maximum gap must be positive: " + maxGap);
+    }
+
+    public TestSettings withPokerHand(int pokerHand) {
+        return new TestSettings(pokerHand, gapAlpha, gapBeta, maxGap, approximateMedian);
+    }
+
+    public TestSettings withGaps(double gapAlpha, double gapBeta, int maxGap) {
+        return new TestSettings(pokerHand, gapAlpha, gapBeta, maxGap, approximateMedian);
+    }
+
+    public TestSettings withApproximateMedian(boolean approximateMedian) {
+        return new TestSettings(pokerHand, gapAlpha, gapBeta, maxGap, approximateMedian);
+    }
+}
@@ -11,4 +11,13 @@ public class AlertHandler {
         alert.setContentText(content);
         alert.showAndWait();
     }
+
+    public static void showAlert(InvalidInputException e) {
+        showAlert(
+                e.isWarning() ? Alert.AlertType.WARNING : Alert.AlertType.ERROR,
+                e.isWarning() ? "Warning" : "Error",
+                e.getHeader(),
+                e.getMessage()
+        );
+    }
 }
@@ -1,14 +1,21 @@
 package com.simulation.prng.utils;
 
-import javafx.collections.ObservableList;
+import com.simulation.prng.utils.templates.Budget;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public interface ControllerStructure {
     void execute();
 
+    void analyze();
+
     void clear();
 
-    void setSharedComponents(Button executeButton, Consumer<ObservableList<Double>> success, Consumer<Throwable> failure);
+    void cancel();
+
+    void setSharedComponents(Button executeButton, ProgressBar progressBar, Supplier<Budget> budgets, BiConsumer<Sequence, Budget> success, Consumer<Progress> progress, Consumer<Period> analysis, Consumer<Throwable> failure);
 }
@@ -1,27 +1,60 @@
 package com.simulation.prng.utils;
 
+import com.simulation.prng.models.ACG;
+import com.simulation.prng.models.BBS;
+import com.simulation.prng.models.CMM;
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import com.simulation.prng.models.MPM;
+import com.simulation.prng.models.MSM;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
 public enum Form {
-    MSM("Cuadrados Medios", "/views/MSM.fxml"),
-    MPM("Productos Medios", "/views/MPM.fxml"),
-    CMM("Multiplicador Constante", "/views/CMM.fxml"),
-    LCG("Lineal", "/views/LCG.fxml"),
-    MCG("Congruencial Multiplicativo", "/views/MCG.fxml"),
-    ACG("Congruencial Aditivo", "/views/ACG.fxml"),
-    QCG("Congruencial Cuadrático", "/views/QCG.fxml"),
-    BBS("Blum, Blum y Shub", "/views/BBS.fxml");
+    MSM("Cuadrados Medios", "/views/MSM.fxml", p -> new MSM(p.get(0)), "seed"),
+    MPM("Productos Medios", "/views/MPM.fxml", p -> new MPM(p.get(0), p.get(1)), "seed1", "seed2"),
+    CMM("Multiplicador Constante", "/views/CMM.fxml", p -> new CMM(p.get(0), p.get(1)), "seed", "constant"),
+    LCG("Lineal", "/views/LCG.fxml", p -> new LCG(p.get(0), p.get(1), p.get(2), p.get(3)), "seed", "multiplier", "increment", "modulus"),
+    MCG("Congruencial Multiplicativo", "/views/MCG.fxml", p -> new MCG(p.get(0), p.get(1), p.get(2)), "seed", "multiplier", "modulus"),
+    ACG("Congruencial Aditivo", "/views/ACG.fxml", p -> new ACG(p.subList(0, p.size() - 1), p.get(p.size() - 1)), "seeds...", "modulus"),
+    QCG("Congruencial Cuadrático", "/views/QCG.fxml", p -> new QCG(p.get(0), p.get(1), p.get(2), p.get(3), p.get(4)), "seed", "a", "b", "c", "modulus"),
+    BBS("Blum, Blum y Shub", "/views/BBS.fxml", p -> new BBS(p.get(0), p.get(1), p.get(2)), "seed", "p", "q");
 
     final String title;
     final String fxml;
+    final Function<List<Long>, AlgorithmTemplate> factory;
+    final List<String> parameters;
 
-    Form(String algorithm, String fxml) {
+    Form(String algorithm, String fxml, Function<List<Long>, AlgorithmTemplate> factory, String... parameters) {
         this.title = algorithm;
         this.fxml = fxml;
+        this.factory = factory;
+        this.parameters = List.of(parameters);
     }
 
     public String getFxml() {
         return fxml;
     }
 
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public AlgorithmTemplate create(List<Long> values) {
+        boolean variadic = parameters.get(0).endsWith("...");
+        if (variadic ? values.size() < parameters.size() : values.size() != parameters.size()) {
+            throw new InvalidInputException(
+                    "Wrong number of parameters",
+                    name() + " expects " + String.join(", ", parameters) + " but got " + values.size() + " values",
+                    false
+            );
+        }
+        return factory.apply(values);
+    }
+
     @Override
     public String toString() {
         return title;
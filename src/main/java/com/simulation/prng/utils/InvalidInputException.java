@@ -0,0 +1,23 @@
+package com.simulation.prng.utils;
+
+public class InvalidInputException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String header;
+    private final boolean warning;
+
+    public InvalidInputException(String header, String content, boolean warning) {
+        super(content);
+        this.header = header;
+        this.warning = warning;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public boolean isWarning() {
+        return warning;
+    }
+}
@@ -0,0 +1,43 @@
+package com.simulation.prng.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JobExecutor {
+
+    private static final int THREADS = Integer.getInteger("prng.job.threads", 2);
+    private static final int QUEUE = Integer.getInteger("prng.job.queue", 8);
+
+    private static final ThreadPoolExecutor EXECUTOR = create();
+
+    public static void submit(Runnable job) {
+        EXECUTOR.execute(job);
+    }
+
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor create() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                THREADS, THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE),
+                job -> {
+                    Thread thread = new Thread(job, "prng-job-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
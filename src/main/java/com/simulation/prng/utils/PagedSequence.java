@@ -0,0 +1,78 @@
+package com.simulation.prng.utils;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+public class PagedSequence extends WritableSequence {
+
+    public static final int PAGE_SHIFT = 20;
+    public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 1 << 6;
+
+    private volatile long[][] pages = {new long[INITIAL_CAPACITY]};
+    private long size;
+
+    public PagedSequence(long divisor) {
+        super(divisor);
+    }
+
+    public PagedSequence(long divisor, long size) {
+        super(divisor);
+        this.size = size;
+        this.pages = new long[(int) ((size + PAGE_MASK) >>> PAGE_SHIFT)][];
+    }
+
+    @Override
+    public void add(long state) {
+        long[][] pages = this.pages;
+        int page = (int) (size >>> PAGE_SHIFT);
+        int offset = (int) (size & PAGE_MASK);
+
+        if (page == pages.length) {
+            pages = Arrays.copyOf(pages, page + 1);
+            pages[page] = new long[PAGE_SIZE];
+            this.pages = pages;
+        } else if (offset == pages[page].length) {
+            pages = pages.clone();
+            pages[page] = Arrays.copyOf(pages[page], Math.min(offset << 1, PAGE_SIZE));
+            this.pages = pages;
+        }
+
+        pages[page][offset] = state;
+        size++;
+    }
+
+    @Override
+    public void set(long index, long state) {
+        int page = (int) (index >>> PAGE_SHIFT);
+        long[] values = pages[page];
+        if (values == null) {
+            values = new long[(int) Math.min(PAGE_SIZE, size - ((long) page << PAGE_SHIFT))];
+            pages[page] = values;
+        }
+        values[(int) (index & PAGE_MASK)] = state;
+    }
+
+    @Override
+    public long state(long index) {
+        return pages[(int) (index >>> PAGE_SHIFT)][(int) (index & PAGE_MASK)];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void copyTo(long from, LongBuffer target, int length) {
+        while (length > 0) {
+            int page = (int) (from >>> PAGE_SHIFT);
+            int start = (int) (from & PAGE_MASK);
+            int count = Math.min(length, PAGE_SIZE - start);
+            target.put(pages[page], start, count);
+            from += count;
+            length -= count;
+        }
+    }
+}
@@ -1,17 +1,67 @@
 package com.simulation.prng.utils;
 
+import com.simulation.prng.utils.math.UInt128;
+
 public class Pattern {
 
-    public static Long apply(long a, long b, int l, String f) {
-        long product = a * b;
+    public static final int MAX_LENGTH = 18;
+
+    private static final int MAX_WIDTH = 39;
+    private static final long[] POWERS = new long[MAX_LENGTH + 1];
+    private static final long[] WIDE_HI = new long[MAX_WIDTH];
+    private static final long[] WIDE_LO = new long[MAX_WIDTH];
+
+    static {
+        long hi = 0;
+        long lo = 1;
+        for (int i = 0; i < MAX_WIDTH; i++) {
+            if (i <= MAX_LENGTH) POWERS[i] = lo;
+            WIDE_HI[i] = hi;
+            WIDE_LO[i] = lo;
+            hi = hi * 10 + Math.multiplyHigh(lo, 10) + (lo < 0 ? 10 : 0);
+            lo = lo * 10;
+        }
+    }
 
-        String formatted = String.format(f, product);
+    public static long power(int exponent) {
+        return POWERS[exponent];
+    }
 
+    public static int length(long seed) {
+        int length = 1;
+        while (length <= MAX_LENGTH && seed >= POWERS[length]) length++;
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Seeds are limited to " + MAX_LENGTH + " digits");
+        }
+        return length;
+    }
+
+    public static long apply(long a, long b, int l) {
         int start = l / 2;
         int end = start + l;
 
-        String middle = formatted.substring(start, end);
+        long lo = a * b;
+        long hi = Math.multiplyHigh(a, b);
+
+        if (hi == 0 && lo >= 0) {
+            int width = 2 * l;
+            while (width <= MAX_LENGTH && lo >= POWERS[width]) width++;
+            return lo / POWERS[width - end] % POWERS[l];
+        }
+
+        int width = 2 * l;
+        while (width < MAX_WIDTH && atLeast(hi, lo, WIDE_HI[width], WIDE_LO[width])) width++;
+
+        for (int shift = width - end; shift > 0; shift -= MAX_LENGTH) {
+            long divisor = POWERS[Math.min(shift, MAX_LENGTH)];
+            long remainder = Long.remainderUnsigned(hi, divisor);
+            hi = Long.divideUnsigned(hi, divisor);
+            lo = UInt128.divide(remainder, lo, divisor);
+        }
+        return UInt128.remainder(hi, lo, POWERS[l]);
+    }
 
-        return Long.parseLong(middle);
+    private static boolean atLeast(long hi, long lo, long otherHi, long otherLo) {
+        return hi != otherHi ? hi > otherHi : Long.compareUnsigned(lo, otherLo) >= 0;
     }
 }
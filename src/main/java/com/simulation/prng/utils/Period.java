@@ -0,0 +1,8 @@
+package com.simulation.prng.utils;
+
+public record Period(long tail, long cycle) {
+
+    public long length() {
+        return tail == 0 ? cycle : tail + cycle - 1;
+    }
+}
@@ -0,0 +1,4 @@
+package com.simulation.prng.utils;
+
+public record Progress(Sequence sequence, long ready, long total) {
+}
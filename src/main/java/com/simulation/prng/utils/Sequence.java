@@ -0,0 +1,122 @@
+package com.simulation.prng.utils;
+
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.DoubleConsumer;
+
+public abstract class Sequence {
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int CHUNK = 1 << 16;
+
+    protected final long divisor;
+
+    protected Sequence(long divisor) {
+        this.divisor = divisor;
+    }
+
+    public abstract long state(long index);
+
+    public abstract long size();
+
+    public double get(long index) {
+        return (double) state(index) / divisor;
+    }
+
+    public void copyTo(long from, LongBuffer target, int length) {
+        for (int i = 0; i < length; i++) target.put(state(from + i));
+    }
+
+    public void forEach(DoubleConsumer action) {
+        forEach(0, size(), action);
+    }
+
+    public void forEach(long from, long to, DoubleConsumer action) {
+        if (from < 0 || from > to || to > size()) throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") for size " + size());
+
+        long[] buffer = new long[(int) Math.min(to - from, CHUNK)];
+        double divisor = this.divisor;
+        for (long index = from; index < to; index += buffer.length) {
+            int length = (int) Math.min(buffer.length, to - index);
+            copyTo(index, LongBuffer.wrap(buffer), length);
+            for (int i = 0; i < length; i++) action.accept(buffer[i] / divisor);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public long divisor() {
+        return divisor;
+    }
+
+    public double[] toArray() {
+        long size = size();
+        if (size > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Sequence of " + size + " values does not fit in an array");
+        }
+
+        double[] values = new double[(int) size];
+        long[] buffer = new long[(int) Math.min(size, CHUNK)];
+        double divisor = this.divisor;
+        for (int index = 0; index < values.length; index += buffer.length) {
+            int length = Math.min(buffer.length, values.length - index);
+            copyTo(index, LongBuffer.wrap(buffer), length);
+            for (int i = 0; i < length; i++) values[index + i] = buffer[i] / divisor;
+        }
+        return values;
+    }
+
+    public Sequence head(long length) {
+        if (length < 0 || length > size()) throw new IndexOutOfBoundsException("length " + length + " for size " + size());
+        return length == size() ? this : new Head(length);
+    }
+
+    public List<Double> asList() {
+        return new View();
+    }
+
+    private class Head extends Sequence {
+
+        private final long length;
+
+        Head(long length) {
+            super(Sequence.this.divisor);
+            this.length = length;
+        }
+
+        @Override
+        public long state(long index) {
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("index " + index + " for size " + length);
+            return Sequence.this.state(index);
+        }
+
+        @Override
+        public long size() {
+            return length;
+        }
+
+        @Override
+        public void copyTo(long from, LongBuffer target, int length) {
+            if (from < 0 || from + length > this.length) throw new IndexOutOfBoundsException("range " + from + "+" + length + " for size " + this.length);
+            Sequence.this.copyTo(from, target, length);
+        }
+    }
+
+    private class View extends AbstractList<Double> implements RandomAccess {
+
+        @Override
+        public Double get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+            return Sequence.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Sequence.this.size(), Integer.MAX_VALUE);
+        }
+    }
+}
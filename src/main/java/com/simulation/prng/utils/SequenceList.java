@@ -0,0 +1,60 @@
+package com.simulation.prng.utils;
+
+import javafx.collections.ObservableListBase;
+
+import java.nio.LongBuffer;
+
+public class SequenceList extends ObservableListBase<Double> {
+
+    private static final int WINDOW = 256;
+    private static final int LEAD = WINDOW / 4;
+
+    private final Sequence sequence;
+    private int size;
+    private final long[] states = new long[WINDOW];
+    private int first = -1;
+    private int length;
+
+    public SequenceList(Sequence sequence) {
+        this(sequence, sequence.size());
+    }
+
+    public SequenceList(Sequence sequence, long ready) {
+        this.sequence = sequence;
+        this.size = (int) Math.min(ready, Integer.MAX_VALUE);
+    }
+
+    public void grow(long ready) {
+        int previous = size;
+        int next = (int) Math.min(ready, Integer.MAX_VALUE);
+        if (next <= previous) return;
+
+        size = next;
+        if (first + length == previous) first = -1;
+
+        beginChange();
+        nextAdd(previous, next);
+        endChange();
+    }
+
+    @Override
+    public Double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+
+        if (index < first || index >= first + length) {
+            first = Math.max(0, Math.min(index - LEAD, size - WINDOW));
+            length = Math.min(WINDOW, size - first);
+            sequence.copyTo(first, LongBuffer.wrap(states), length);
+        }
+        return (double) states[index - first] / sequence.divisor();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public Sequence getSequence() {
+        return sequence;
+    }
+}
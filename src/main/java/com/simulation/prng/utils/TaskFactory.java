@@ -1,12 +1,18 @@
 package com.simulation.prng.utils;
 
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 public class TaskFactory {
 
+    public interface ProgressiveCallable<T> {
+        T call(Consumer<Progress> publisher) throws Exception;
+    }
+
     public static <T> Task<T> create(Callable<T> logic, Consumer<T> success, Consumer<Throwable> failure) {
         Task<T> task = new Task<T>() {
 
@@ -26,4 +32,31 @@ public class TaskFactory {
 
         return task;
     }
+
+    public static <T> Task<T> progressive(ProgressiveCallable<T> logic, Consumer<Progress> progress, Consumer<T> success, Consumer<Throwable> failure) {
+        AtomicReference<Progress> pending = new AtomicReference<>();
+
+        Task<T> task = new Task<T>() {
+
+            @Override
+            protected T call() throws Exception {
+                return logic.call(update -> {
+                    updateProgress(update.ready(), update.total());
+                    if (pending.getAndSet(update) == null) {
+                        Platform.runLater(() -> progress.accept(pending.getAndSet(null)));
+                    }
+                });
+            }
+        };
+
+        task.setOnSucceeded(e -> {
+            success.accept(task.getValue());
+        });
+
+        task.setOnFailed(e -> {
+            failure.accept(task.getException());
+        });
+
+        return task;
+    }
 }
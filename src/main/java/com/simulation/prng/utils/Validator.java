@@ -1,7 +1,5 @@
 package com.simulation.prng.utils;
 
-import javafx.scene.control.Alert;
-
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,8 +25,48 @@ public class Validator {
         return true;
     }
 
+    public static long parseNatural(String text) {
+        return parseNaturals(List.of(text)).get(0);
+    }
+
+    public static List<Long> parseNaturals(List<String> texts) {
+        for (String text : texts) {
+            if (isEmpty(text.trim())) {
+                throw new InvalidInputException(
+                        "Empty fields",
+                        "Please fill all the required fields.",
+                        false
+                );
+            }
+        }
+
+        List<Long> numbers = new ArrayList<>();
+        try {
+            for (String text : texts) {
+                long number = Long.parseLong(text.trim());
+                if (isNotNatural(number)) {
+                    throw new InvalidInputException(
+                            "Fields may not be natural numbers",
+                            "Please make sure that all fields are natural numbers.\n" +
+                                    "Natural numbers are integers larger than zero.",
+                            true
+                    );
+                }
+                numbers.add(number);
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(
+                    "Incorrect format",
+                    "Please enter a valid number.\n" +
+                            "Code error: " + e.getMessage(),
+                    false
+            );
+        }
+        return numbers;
+    }
+
     public static List<Long> parseCSVFormat (String csv) {
-        if (Validator.isEmpty(csv)) return new ArrayList<>();
+        if (Validator.isEmpty(csv.trim())) return new ArrayList<>();
 
         String[] parts = csv.trim().split("\\s*,\\s*");
         List<Long> numbers = new ArrayList<>();
@@ -37,31 +75,31 @@ public class Validator {
             for (String part : parts) {
                 long number = Long.parseLong(part);
                 if (isNotNatural(number)) {
-                    AlertHandler.showAlert(
-                            Alert.AlertType.ERROR,
-                            "Error",
+                    throw new InvalidInputException(
                             "Conversion cancelled",
                             "A number that not follows the format was found\n" +
-                                    "Please check your csv format"
+                                    "Please check your csv format",
+                            false
                     );
-                    return null;
                 } else numbers.add(number);
             }
             return numbers;
 
         } catch (NumberFormatException e) {
-            AlertHandler.showAlert(
-                    Alert.AlertType.ERROR,
-                    "Error",
+            throw new InvalidInputException(
                     "Incorrect format",
                     "Please follow the format\n" +
-                            "Code error: " + e.getMessage()
+                            "Code error: " + e.getMessage(),
+                    false
             );
-            return null;
         }
     }
 
     public static boolean isPowerOfTwo (long m) {
         return (m > 0) && ((m & (m - 1)) == 0);
     }
+
+    public static boolean isMersenne (long m) {
+        return (m > 1) && (m < Long.MAX_VALUE) && isPowerOfTwo(m + 1);
+    }
 }
@@ -0,0 +1,12 @@
+package com.simulation.prng.utils;
+
+public abstract class WritableSequence extends Sequence {
+
+    protected WritableSequence(long divisor) {
+        super(divisor);
+    }
+
+    public abstract void add(long state);
+
+    public abstract void set(long index, long state);
+}
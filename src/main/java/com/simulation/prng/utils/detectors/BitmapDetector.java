@@ -0,0 +1,56 @@
+package com.simulation.prng.utils.detectors;
+
+public class BitmapDetector implements RepeatDetector {
+
+    private static final long MAXIMUM_WORDS = Integer.MAX_VALUE - 8;
+
+    private final long[] words;
+    private final long bound;
+    private long size;
+
+    public BitmapDetector(long bound) {
+        if (bound <= 0 || words(bound) > MAXIMUM_WORDS) {
+            throw new IllegalArgumentException("Unsupported state bound: " + bound);
+        }
+        this.words = new long[(int) words(bound)];
+        this.bound = bound;
+    }
+
+    public static long bytes(long bound) {
+        return bound <= 0 ? Long.MAX_VALUE : words(bound) * Long.BYTES;
+    }
+
+    public static boolean fits(long bound, long budget) {
+        return bound > 0 && words(bound) <= MAXIMUM_WORDS && bytes(bound) <= budget;
+    }
+
+    @Override
+    public boolean add(long value) {
+        if (Long.compareUnsigned(value, bound) >= 0) {
+            throw new IllegalStateException("State " + Long.toUnsignedString(value) + " is outside [0, " + bound + ")");
+        }
+
+        int index = (int) (value >>> 6);
+        long bit = 1L << value;
+        long word = words[index];
+        if ((word & bit) != 0) return false;
+
+        words[index] = word | bit;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (Long.compareUnsigned(value, bound) >= 0) return false;
+        return (words[(int) (value >>> 6)] & (1L << value)) != 0;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    private static long words(long bound) {
+        return (bound + 63) >>> 6;
+    }
+}
@@ -0,0 +1,89 @@
+package com.simulation.prng.utils.detectors;
+
+public class LongHashSet implements RepeatDetector {
+
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long[] table;
+    private int mask;
+    private int shift;
+    private int threshold;
+    private int used;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) Math.min(MAXIMUM_CAPACITY, expected / LOAD_FACTOR)) - 1) << 1;
+        allocate(Math.min(capacity, MAXIMUM_CAPACITY));
+    }
+
+    @Override
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            return true;
+        }
+
+        int index = slot(value);
+        while (true) {
+            long current = table[index];
+            if (current == 0) break;
+            if (current == value) return false;
+            index = (index + 1) & mask;
+        }
+
+        table[index] = value;
+        if (++used >= threshold) rehash();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return containsZero;
+
+        int index = slot(value);
+        while (true) {
+            long current = table[index];
+            if (current == 0) return false;
+            if (current == value) return true;
+            index = (index + 1) & mask;
+        }
+    }
+
+    @Override
+    public long size() {
+        return containsZero ? used + 1 : used;
+    }
+
+    private int slot(long value) {
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash() {
+        if (table.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Repeat detector is full: " + used + " values");
+        }
+
+        long[] old = table;
+        allocate(old.length << 1);
+
+        for (long value : old) {
+            if (value == 0) continue;
+            int index = slot(value);
+            while (table[index] != 0) index = (index + 1) & mask;
+            table[index] = value;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.simulation.prng.utils.detectors;
+
+public interface RepeatDetector {
+
+    boolean add(long value);
+
+    long size();
+}
@@ -0,0 +1,49 @@
+package com.simulation.prng.utils.math;
+
+public final class AffineMap {
+
+    private final long multiplier;
+    private final long increment;
+    private final long modulus;
+
+    public AffineMap(long multiplier, long increment, long modulus) {
+        this.multiplier = Long.remainderUnsigned(multiplier, modulus);
+        this.increment = Long.remainderUnsigned(increment, modulus);
+        this.modulus = modulus;
+    }
+
+    public static AffineMap identity(long modulus) {
+        return new AffineMap(1, 0, modulus);
+    }
+
+    public long multiplier() {
+        return multiplier;
+    }
+
+    public long increment() {
+        return increment;
+    }
+
+    public long apply(long x) {
+        return NumberTheory.addMod(NumberTheory.mulMod(multiplier, Long.remainderUnsigned(x, modulus), modulus), increment, modulus);
+    }
+
+    public AffineMap andThen(AffineMap next) {
+        return new AffineMap(
+                NumberTheory.mulMod(next.multiplier, multiplier, modulus),
+                next.apply(increment),
+                modulus
+        );
+    }
+
+    public AffineMap power(long n) {
+        AffineMap result = identity(modulus);
+        AffineMap base = this;
+        while (n > 0) {
+            if ((n & 1) == 1) result = result.andThen(base);
+            base = base.andThen(base);
+            n >>>= 1;
+        }
+        return result;
+    }
+}
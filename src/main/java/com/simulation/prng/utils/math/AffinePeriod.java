@@ -0,0 +1,57 @@
+package com.simulation.prng.utils.math;
+
+import com.simulation.prng.utils.Period;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.LongPredicate;
+
+public class AffinePeriod {
+
+    public static Period of(long seed, long multiplier, long increment, long modulus) {
+        long tail = 0;
+        long cycle = 1;
+
+        for (Map.Entry<Long, Integer> factor : NumberTheory.factor(modulus).entrySet()) {
+            Period component = ofPrimePower(seed, multiplier, increment, factor.getKey(), factor.getValue());
+            tail = Math.max(tail, component.tail());
+            cycle = NumberTheory.lcm(cycle, component.cycle());
+        }
+
+        if (seed >= modulus) tail = Math.max(tail, 1);
+        return new Period(tail, cycle);
+    }
+
+    private static Period ofPrimePower(long seed, long multiplier, long increment, long p, int e) {
+        long q = NumberTheory.pow(p, e);
+        AffineMap map = new AffineMap(multiplier, increment, q);
+        long start = seed % q;
+
+        if (map.multiplier() % p == 0) {
+            long tail = 0;
+            for (long x = start, next = map.apply(x); next != x; next = map.apply(x)) {
+                x = next;
+                tail++;
+            }
+            return new Period(tail, 1);
+        }
+
+        SortedMap<Long, Integer> factors = NumberTheory.factor(p - 1);
+        factors.put(p, e);
+
+        long phi = q / p * (p - 1);
+        long order = reduce(phi, factors, n -> NumberTheory.powMod(map.multiplier(), n, q) == 1);
+
+        long translation = map.power(order).increment();
+        long length = Math.multiplyExact(order, q / NumberTheory.gcd(translation, q));
+
+        return new Period(0, reduce(length, factors, n -> map.power(n).apply(start) == start));
+    }
+
+    private static long reduce(long n, SortedMap<Long, Integer> factors, LongPredicate identity) {
+        for (long r : factors.keySet()) {
+            while (n % r == 0 && identity.test(n / r)) n /= r;
+        }
+        return n;
+    }
+}
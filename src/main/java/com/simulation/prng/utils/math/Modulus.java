@@ -0,0 +1,170 @@
+package com.simulation.prng.utils.math;
+
+import com.simulation.prng.utils.Validator;
+
+import java.util.function.LongUnaryOperator;
+
+public abstract class Modulus {
+
+    private static final long NATIVE_LIMIT = 3037000499L;
+
+    protected final long value;
+
+    protected Modulus(long value) {
+        if (value < 1) throw new IllegalArgumentException("Modulus must be positive: " + value);
+        this.value = value;
+    }
+
+    public static Modulus of(long value) {
+        if (Validator.isPowerOfTwo(value)) return new PowerOfTwo(value);
+        if (Validator.isMersenne(value)) return new Mersenne(value);
+        if (value <= NATIVE_LIMIT) return new Native(value);
+        if ((value & 1) == 1) return new Montgomery(value);
+        return new Wide(value);
+    }
+
+    public final long value() {
+        return value;
+    }
+
+    public long reduce(long x) {
+        return x % value;
+    }
+
+    public final long add(long a, long b) {
+        long sum = a + b;
+        return Long.compareUnsigned(sum, value) >= 0 ? sum - value : sum;
+    }
+
+    public abstract long multiply(long a, long b);
+
+    public long prepare(long factor) {
+        return reduce(factor);
+    }
+
+    public long multiplyPrepared(long prepared, long x) {
+        return multiply(prepared, x);
+    }
+
+    public LongUnaryOperator affineStep(long multiplier, long increment) {
+        long a = prepare(multiplier);
+        long c = reduce(increment);
+        return x -> add(multiplyPrepared(a, x), c);
+    }
+
+    private static final class PowerOfTwo extends Modulus {
+
+        private final long mask;
+
+        PowerOfTwo(long value) {
+            super(value);
+            this.mask = value - 1;
+        }
+
+        @Override
+        public long reduce(long x) {
+            return x & mask;
+        }
+
+        @Override
+        public long multiply(long a, long b) {
+            return a * b & mask;
+        }
+
+        @Override
+        public LongUnaryOperator affineStep(long multiplier, long increment) {
+            long a = reduce(multiplier);
+            long c = reduce(increment);
+            long mask = this.mask;
+            return x -> a * x + c & mask;
+        }
+    }
+
+    private static final class Mersenne extends Modulus {
+
+        private final int bits;
+
+        Mersenne(long value) {
+            super(value);
+            this.bits = Long.numberOfTrailingZeros(value + 1);
+        }
+
+        @Override
+        public long multiply(long a, long b) {
+            long lo = a * b;
+            long hi = Math.multiplyHigh(a, b);
+            long folded = (lo & value) + ((hi << (64 - bits)) | (lo >>> bits));
+            if (folded >= value) folded -= value;
+            return folded >= value ? folded - value : folded;
+        }
+
+        @Override
+        public LongUnaryOperator affineStep(long multiplier, long increment) {
+            long a = reduce(multiplier);
+            long c = reduce(increment);
+            if (c == 0) return x -> multiply(a, x);
+            return x -> add(multiply(a, x), c);
+        }
+    }
+
+    private static final class Native extends Modulus {
+
+        Native(long value) {
+            super(value);
+        }
+
+        @Override
+        public long multiply(long a, long b) {
+            return a * b % value;
+        }
+    }
+
+    private static final class Wide extends Modulus {
+
+        Wide(long value) {
+            super(value);
+        }
+
+        @Override
+        public long multiply(long a, long b) {
+            return UInt128.remainder(Math.multiplyHigh(a, b), a * b, value);
+        }
+    }
+
+    private static final class Montgomery extends Modulus {
+
+        private final long inverse;
+        private final long r;
+        private final long r2;
+
+        Montgomery(long value) {
+            super(value);
+            long inverse = value;
+            for (int i = 0; i < 5; i++) inverse *= 2 - value * inverse;
+            this.inverse = inverse;
+            this.r = UInt128.remainder(1, 0, value);
+            this.r2 = NumberTheory.mulMod(r, r, value);
+        }
+
+        @Override
+        public long multiply(long a, long b) {
+            return multiplyPrepared(r2, redc(Math.multiplyHigh(a, b), a * b));
+        }
+
+        @Override
+        public long prepare(long factor) {
+            return NumberTheory.mulMod(reduce(factor), r, value);
+        }
+
+        @Override
+        public long multiplyPrepared(long prepared, long x) {
+            return redc(Math.multiplyHigh(prepared, x), prepared * x);
+        }
+
+        private long redc(long hi, long lo) {
+            long q = lo * inverse;
+            long t = hi - (Math.multiplyHigh(q, value) + ((q >> 63) & value));
+            return t < 0 ? t + value : t;
+        }
+    }
+}
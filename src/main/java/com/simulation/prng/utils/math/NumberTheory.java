@@ -0,0 +1,139 @@
+package com.simulation.prng.utils.math;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class NumberTheory {
+
+    private static final long[] WITNESSES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+    private static final int TRIAL_LIMIT = 1 << 10;
+
+    public static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return Math.abs(a);
+    }
+
+    public static long lcm(long a, long b) {
+        return Math.multiplyExact(a / gcd(a, b), b);
+    }
+
+    public static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) result = Math.multiplyExact(result, base);
+        return result;
+    }
+
+    public static long addMod(long a, long b, long m) {
+        long sum = a + b;
+        return Long.compareUnsigned(sum, m) >= 0 ? sum - m : sum;
+    }
+
+    public static long mulMod(long a, long b, long m) {
+        long lo = a * b;
+        long hi = Math.multiplyHigh(a, b);
+        if (hi == 0 && lo >= 0) return lo % m;
+        return UInt128.remainder(hi, lo, m);
+    }
+
+    public static long powMod(long base, long exponent, long m) {
+        long result = 1 % m;
+        base %= m;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) result = mulMod(result, base, m);
+            base = mulMod(base, base, m);
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    public static boolean isPrime(long n) {
+        if (n < 2) return false;
+        for (long p : WITNESSES) {
+            if (n % p == 0) return n == p;
+        }
+
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+
+        for (long a : WITNESSES) {
+            long x = powMod(a, d, n);
+            if (x == 1 || x == n - 1) continue;
+
+            boolean composite = true;
+            for (int r = 1; r < s && composite; r++) {
+                x = mulMod(x, x, n);
+                if (x == n - 1) composite = false;
+            }
+            if (composite) return false;
+        }
+        return true;
+    }
+
+    public static SortedMap<Long, Integer> factor(long n) {
+        if (n < 1) throw new IllegalArgumentException("Cannot factor " + n);
+
+        SortedMap<Long, Integer> factors = new TreeMap<>();
+        for (long p = 2; p < TRIAL_LIMIT && p * p <= n; p += p == 2 ? 1 : 2) {
+            while (n % p == 0) {
+                factors.merge(p, 1, Integer::sum);
+                n /= p;
+            }
+        }
+        if (n > 1) split(n, factors);
+        return factors;
+    }
+
+    private static void split(long n, SortedMap<Long, Integer> factors) {
+        if (n == 1) return;
+        if (isPrime(n)) {
+            factors.merge(n, 1, Integer::sum);
+            return;
+        }
+        long d = rho(n);
+        split(d, factors);
+        split(n / d, factors);
+    }
+
+    private static long rho(long n) {
+        if ((n & 1) == 0) return 2;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long c = random.nextLong(1, n);
+            long y = random.nextLong(0, n);
+            long g = 1;
+            long q = 1;
+            long x = y;
+            long ys = y;
+
+            for (long r = 1; g == 1; r <<= 1) {
+                x = y;
+                for (long i = 0; i < r; i++) y = addMod(mulMod(y, y, n), c, n);
+
+                for (long k = 0; k < r && g == 1; k += 128) {
+                    ys = y;
+                    for (long i = 0; i < Math.min(128, r - k); i++) {
+                        y = addMod(mulMod(y, y, n), c, n);
+                        q = mulMod(q, Math.abs(x - y), n);
+                    }
+                    g = gcd(q, n);
+                }
+            }
+
+            if (g == n) {
+                do {
+                    ys = addMod(mulMod(ys, ys, n), c, n);
+                    g = gcd(Math.abs(x - ys), n);
+                } while (g == 1);
+            }
+
+            if (g != n) return g;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.simulation.prng.utils.math;
+
+public class UInt128 {
+
+    private static final long BASE = 1L << 32;
+    private static final long LOW = BASE - 1;
+
+    public static long divide(long hi, long lo, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vn1 = v >>> 32;
+        long vn0 = v & LOW;
+
+        long un32 = shift == 0 ? hi : (hi << shift) | (lo >>> (64 - shift));
+        long un10 = lo << shift;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & LOW;
+
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (q1 >= BASE || Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (rhat >= BASE) break;
+        }
+
+        long un21 = (un32 << 32) + un1 - q1 * v;
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (q0 >= BASE || Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (rhat >= BASE) break;
+        }
+
+        return (q1 << 32) | q0;
+    }
+
+    public static long remainder(long hi, long lo, long divisor) {
+        if (Long.compareUnsigned(hi, divisor) >= 0) hi = Long.remainderUnsigned(hi, divisor);
+        return lo - divide(hi, lo, divisor) * divisor;
+    }
+}
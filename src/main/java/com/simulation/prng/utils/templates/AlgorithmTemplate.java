@@ -1,32 +1,356 @@
 package com.simulation.prng.utils.templates;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import com.simulation.prng.io.Storage;
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.Progress;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.WritableSequence;
+import com.simulation.prng.utils.detectors.BitmapDetector;
+import com.simulation.prng.utils.detectors.LongHashSet;
+import com.simulation.prng.utils.detectors.RepeatDetector;
+import com.simulation.prng.utils.math.UInt128;
 
-public abstract class AlgorithmTemplate {
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
-    public final List<Double> generate() {
-        List<Double> sequence = new ArrayList<>();
-        HashSet<Long> uniques = new HashSet<>();
+public abstract class AlgorithmTemplate implements RandomGenerator, Cloneable {
+
+    private static final long DEFAULT_DETECTOR_BUDGET = 128L << 20;
+    private static final int CHECK_MASK = (1 << 12) - 1;
+    private static final long PUBLISH_BATCH = 1 << 16;
+    private static final long PUBLISH_INTERVAL = 100_000_000L;
+
+    private static volatile long detectorBudget = Long.getLong("prng.detector.budget", DEFAULT_DETECTOR_BUDGET);
+
+    private AlgorithmTemplate cursor;
+
+    public final Sequence generate() {
+        return generate(Long.MAX_VALUE);
+    }
+
+    public final Sequence generate(long limit) {
+        return generate(Budget.of(limit), null);
+    }
+
+    public final Sequence generate(Budget budget) {
+        return generate(budget, null);
+    }
+
+    public final Sequence generate(Budget budget, Consumer<Progress> publisher) {
+        long limit = budget.maxLength();
 
         initialize();
 
-        long divisor = divisor();
+        long expected = expected(limit);
+        RepeatDetector uniques = detector(expected);
 
-        while (true) {
+        WritableSequence sequence = Storage.growable(divisor(), expected);
+        long total = expected > 0 ? expected : -1;
+        long published = 0;
+        long publishedAt = System.nanoTime();
+
+        boolean repeated = false;
+        while (sequence.size() < limit) {
             long next = next();
-            if (uniques.add(next)) {
-                sequence.add((double) next / divisor);
+            if (uniques.add(key(next))) {
+                sequence.add(next);
                 update(next);
-            } else break;
+            } else {
+                repeated = true;
+                break;
+            }
+
+            if ((sequence.size() & CHECK_MASK) == 0) {
+                if (budget.exhausted()) break;
+                if (publisher == null) continue;
+
+                long now = System.nanoTime();
+                if (sequence.size() - published >= PUBLISH_BATCH || now - publishedAt >= PUBLISH_INTERVAL) {
+                    published = sequence.size();
+                    publishedAt = now;
+                    publisher.accept(new Progress(sequence, published, total));
+                }
+            }
         }
+        if (!repeated && sequence.size() == limit && uniques.add(key(next()))) budget.stop();
+        if (publisher != null) publisher.accept(new Progress(sequence, sequence.size(), sequence.size()));
         return sequence;
     }
 
+    public final Sequence substream(long offset, long length) {
+        if (!(this instanceof Jumpable)) throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot jump ahead");
+        if (offset < 0 || length < 0) throw new IllegalArgumentException("offset and length must be non-negative");
+
+        AlgorithmTemplate worker = fresh();
+        ((Jumpable) worker).jump(offset);
+
+        WritableSequence sequence = Storage.growable(worker.divisor(), length);
+        for (long i = 0; i < length; i++) sequence.add(worker.nextState());
+        return sequence;
+    }
+
+    public final Period period() {
+        return period(Budget.unlimited());
+    }
+
+    public Period period(Budget budget) {
+        initialize();
+
+        AlgorithmTemplate tortoise = copy();
+        AlgorithmTemplate hare = copy();
+        hare.step();
+
+        long power = 1;
+        long cycle = 1;
+        while (!tortoise.sameState(hare)) {
+            if (power == cycle) {
+                tortoise = hare.copy();
+                power <<= 1;
+                cycle = 0;
+            }
+            hare.step();
+            cycle++;
+            if ((cycle & CHECK_MASK) == 0) checkBudget(budget);
+        }
+
+        tortoise = copy();
+        hare = copy();
+        for (long i = 0; i < cycle; i++) {
+            hare.step();
+            if ((i & CHECK_MASK) == 0) checkBudget(budget);
+        }
+
+        long tail = 0;
+        while (!tortoise.sameState(hare)) {
+            tortoise.step();
+            hare.step();
+            tail++;
+            if ((tail & CHECK_MASK) == 0) checkBudget(budget);
+        }
+
+        return new Period(tail, cycle);
+    }
+
+    @Override
+    public long nextLong() {
+        AlgorithmTemplate cursor = cursor();
+        long range = cursor.range();
+        int bits = bits(range);
+
+        long value = 0;
+        for (int filled = 0; filled < Long.SIZE; filled += bits) value = value << bits | top(cursor.step(), range, bits);
+        return value;
+    }
+
+    @Override
+    public double nextDouble() {
+        AlgorithmTemplate cursor = cursor();
+        return unit(cursor.step(), cursor.range());
+    }
+
+    @Override
+    public LongStream longs() {
+        return longs(Long.MAX_VALUE);
+    }
+
+    @Override
+    public LongStream longs(long streamSize) {
+        if (streamSize < 0) throw new IllegalArgumentException("size must be non-negative");
+        return StreamSupport.longStream(new Longs(fresh(), streamSize), false);
+    }
+
+    @Override
+    public DoubleStream doubles() {
+        return doubles(Long.MAX_VALUE);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize) {
+        if (streamSize < 0) throw new IllegalArgumentException("size must be non-negative");
+        return StreamSupport.doubleStream(new Doubles(fresh(), streamSize), false);
+    }
+
+    final long nextState() {
+        return cursor().step();
+    }
+
+    private long expected(long limit) {
+        long bound = stateBound();
+        return bound > 0 ? Math.min(bound, limit) : limit == Long.MAX_VALUE ? 0 : limit;
+    }
+
+    private static void checkBudget(Budget budget) {
+        if (budget.exhausted()) throw new CancellationException("Life cycle analysis stopped");
+    }
+
+    private long step() {
+        long next = next();
+        update(next);
+        return next;
+    }
+
+    protected final AlgorithmTemplate cursor() {
+        if (cursor == null) cursor = fresh();
+        return cursor;
+    }
+
+    final AlgorithmTemplate fresh() {
+        AlgorithmTemplate fresh = copy();
+        fresh.cursor = null;
+        fresh.initialize();
+        return fresh;
+    }
+
+    private static int bits(long range) {
+        return Math.min(Integer.SIZE, Math.max(1, Long.SIZE - 1 - Long.numberOfLeadingZeros(range)));
+    }
+
+    private static long top(long state, long range, int bits) {
+        if (range == 1L << bits) return state;
+        if (Long.bitCount(range) == 1) return state >>> (Long.numberOfTrailingZeros(range) - bits);
+        return UInt128.divide(state >>> (Long.SIZE - bits), state << bits, range);
+    }
+
+    private static double unit(long state, long range) {
+        double value = (double) state / range;
+        return value < 1.0 ? value : Math.nextDown(1.0);
+    }
+
+    private static class Cycle {
+
+        private final AlgorithmTemplate source;
+        private final long limit;
+        private RepeatDetector uniques;
+
+        Cycle(AlgorithmTemplate source, long limit) {
+            this.source = source;
+            this.limit = limit;
+        }
+
+        long advance() {
+            if (uniques == null) uniques = source.detector(source.expected(limit));
+
+            long next = source.next();
+            if (!uniques.add(source.key(next))) return -1;
+            source.update(next);
+            return next;
+        }
+    }
+
+    private static class Longs extends Spliterators.AbstractLongSpliterator {
+
+        private final Cycle cycle;
+        private final long range;
+        private final int bits;
+        private final int states;
+        private long remaining;
+
+        Longs(AlgorithmTemplate source, long limit) {
+            super(limit, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.range = source.range();
+            this.bits = bits(range);
+            this.states = (Long.SIZE + bits - 1) / bits;
+            this.cycle = new Cycle(source, limit > Long.MAX_VALUE / states ? Long.MAX_VALUE : limit * states);
+            this.remaining = limit;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (remaining == 0) return false;
+
+            long value = 0;
+            for (int i = 0; i < states; i++) {
+                long state = cycle.advance();
+                if (state < 0) {
+                    remaining = 0;
+                    return false;
+                }
+                value = value << bits | top(state, range, bits);
+            }
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+    }
+
+    private static class Doubles extends Spliterators.AbstractDoubleSpliterator {
+
+        private final Cycle cycle;
+        private final long range;
+        private long remaining;
+
+        Doubles(AlgorithmTemplate source, long limit) {
+            super(limit, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.cycle = new Cycle(source, limit);
+            this.range = source.range();
+            this.remaining = limit;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (remaining == 0) return false;
+
+            long state = cycle.advance();
+            if (state < 0) {
+                remaining = 0;
+                return false;
+            }
+            remaining--;
+            action.accept(unit(state, range));
+            return true;
+        }
+    }
+
+    protected AlgorithmTemplate copy() {
+        try {
+            AlgorithmTemplate copy = (AlgorithmTemplate) clone();
+            if (cursor != null) copy.cursor = cursor.copy();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public static long getDetectorBudget() {
+        return detectorBudget;
+    }
+
+    public static void setDetectorBudget(long bytes) {
+        if (bytes < 0) throw new IllegalArgumentException("budget must be non-negative");
+        detectorBudget = bytes;
+    }
+
+    protected RepeatDetector detector(long expected) {
+        long bound = stateBound();
+        boolean sparse = expected > 0 && expected < BitmapDetector.bytes(bound) / Long.BYTES;
+        if (!sparse && BitmapDetector.fits(bound, detectorBudget)) return new BitmapDetector(bound);
+        return sparse ? new LongHashSet((int) Math.min(expected, Integer.MAX_VALUE)) : new LongHashSet();
+    }
+
+    protected long stateBound() {
+        return 0;
+    }
+
+    protected long range() {
+        return stateBound();
+    }
+
+    protected long key(long next) {
+        return next;
+    }
+
     protected abstract void initialize();
     protected abstract long next();
     protected abstract long divisor();
     protected abstract void update(long next);
+    protected abstract boolean sameState(AlgorithmTemplate other);
 
 }
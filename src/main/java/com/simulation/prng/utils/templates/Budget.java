@@ -0,0 +1,75 @@
+package com.simulation.prng.utils.templates;
+
+import java.time.Duration;
+
+public class Budget {
+
+    private final long maxLength;
+    private final long timeLimit;
+    private final long start;
+    private final Budget parent;
+    private volatile boolean cancelled;
+    private volatile boolean stopped;
+
+    public Budget(long maxLength, Duration timeLimit) {
+        this(maxLength, timeLimit, null);
+    }
+
+    private Budget(long maxLength, Duration timeLimit, Budget parent) {
+        if (maxLength < 0) throw new IllegalArgumentException("maxLength must be non-negative");
+        if (timeLimit != null && timeLimit.isNegative()) throw new IllegalArgumentException("timeLimit must be non-negative");
+
+        this.maxLength = maxLength;
+        this.timeLimit = timeLimit == null ? Long.MAX_VALUE : saturatedNanos(timeLimit);
+        this.start = System.nanoTime();
+        this.parent = parent;
+    }
+
+    public static Budget unlimited() {
+        return new Budget(Long.MAX_VALUE, null);
+    }
+
+    public static Budget of(long maxLength) {
+        return new Budget(maxLength, null);
+    }
+
+    public Budget child(Duration timeLimit) {
+        return new Budget(maxLength, timeLimit, this);
+    }
+
+    public long maxLength() {
+        return maxLength;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public boolean exhausted() {
+        if (cancelled || (parent != null && parent.exhausted()) || (timeLimit != Long.MAX_VALUE && System.nanoTime() - start >= timeLimit)) {
+            stopped = true;
+            return true;
+        }
+        return false;
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
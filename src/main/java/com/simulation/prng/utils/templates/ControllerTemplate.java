@@ -2,85 +2,107 @@ package com.simulation.prng.utils.templates;
 
 import com.simulation.prng.utils.AlertHandler;
 import com.simulation.prng.utils.ControllerStructure;
+import com.simulation.prng.utils.Form;
+import com.simulation.prng.utils.InvalidInputException;
+import com.simulation.prng.utils.JobExecutor;
+import com.simulation.prng.utils.Period;
+import com.simulation.prng.utils.Progress;
+import com.simulation.prng.utils.Sequence;
 import com.simulation.prng.utils.TaskFactory;
 import com.simulation.prng.utils.Validator;
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
-import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public abstract class ControllerTemplate implements ControllerStructure {
 
     private Button executeButton;
-    private Consumer<ObservableList<Double>> success;
+    private ProgressBar progressBar;
+    private Supplier<Budget> budgets;
+    private BiConsumer<Sequence, Budget> success;
+    private Consumer<Progress> progress;
+    private Consumer<Period> analysis;
     private Consumer<Throwable> failure;
+    private Budget budget;
 
     protected abstract List<TextField> getTextFields();
-    protected abstract Callable<ObservableList<Double>> createLogic(List<Long> parsedValues);
+    protected abstract Form getForm();
 
     @Override
-    public void setSharedComponents(Button executeButton, Consumer<ObservableList<Double>> success, Consumer<Throwable> failure) {
+    public void setSharedComponents(Button executeButton, ProgressBar progressBar, Supplier<Budget> budgets, BiConsumer<Sequence, Budget> success, Consumer<Progress> progress, Consumer<Period> analysis, Consumer<Throwable> failure) {
         this.executeButton = executeButton;
+        this.progressBar = progressBar;
+        this.budgets = budgets;
         this.success = success;
+        this.progress = progress;
+        this.analysis = analysis;
         this.failure = failure;
     }
 
     @Override
     public final void execute() {
-        List<TextField> textFields = getTextFields();
-        List<Long> parsedValues = new ArrayList<>();
-
-        for (TextField textField : textFields) {
-            if (Validator.isEmpty(textField.getText().trim())) {
-                AlertHandler.showAlert(
-                        Alert.AlertType.ERROR,
-                        "Error",
-                        "Empty fields",
-                        "Please fill all the required fields."
-                );
-                return;
-            }
-        }
+        List<Long> parsedValues = parseTextFields();
+        if (parsedValues == null) return;
+
+        Budget budget = newBudget();
+        if (budget == null) return;
+        TaskFactory.ProgressiveCallable<Sequence> logic = publisher ->
+                ParallelGenerator.generate(getForm().create(parsedValues), budget, ForkJoinPool.commonPool(), publisher);
+        start(TaskFactory.progressive(logic, progress, result -> success.accept(result, budget), failure));
+    }
+
+    @Override
+    public final void analyze() {
+        List<Long> parsedValues = parseTextFields();
+        if (parsedValues == null) return;
+
+        Budget budget = newBudget();
+        if (budget == null) return;
+        Callable<Period> logic = () -> getForm().create(parsedValues).period(budget);
+        start(TaskFactory.create(logic, analysis, failure));
+    }
+
+    protected List<Long> parseValues() {
+        return Validator.parseNaturals(getTextFields().stream().map(TextField::getText).toList());
+    }
 
+    private List<Long> parseTextFields() {
         try {
-            for (TextField textField : textFields) {
-                long value = Long.parseLong(textField.getText().trim());
-
-                if (Validator.isNotNatural(value)) {
-                    AlertHandler.showAlert(
-                            Alert.AlertType.WARNING,
-                            "Warning",
-                            "Fields may not be natural numbers",
-                            "Please make sure that all fields are natural numbers.\n" +
-                                    "Natural numbers are integers larger than zero."
-                    );
-                    return;
-                }
-
-                parsedValues.add(value);
-            }
-        } catch (NumberFormatException e) {
-            AlertHandler.showAlert(
-                    Alert.AlertType.ERROR,
-                    "Error",
-                    "Incorrect format",
-                    "Please enter a valid number.\n" +
-                            "Code error: " + e.getMessage()
-            );
-            return;
+            return parseValues();
+        } catch (InvalidInputException e) {
+            AlertHandler.showAlert(e);
+            return null;
         }
+    }
 
-        Callable<ObservableList<Double>> logic = createLogic(parsedValues);
-        Task<ObservableList<Double>> task = TaskFactory.create(logic, success, failure);
+    private Budget newBudget() {
+        Budget budget = budgets.get();
+        if (budget != null) this.budget = budget;
+        return budget;
+    }
 
+    private void start(Task<?> task) {
         executeButton.setDisable(true);
-        new Thread(task).start();
+        progressBar.progressProperty().bind(task.progressProperty());
+        try {
+            JobExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            failure.accept(e);
+        }
+    }
+
+    @Override
+    public final void cancel() {
+        if (budget != null) budget.cancel();
     }
 
     @Override
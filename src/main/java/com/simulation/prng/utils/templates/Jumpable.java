@@ -0,0 +1,10 @@
+package com.simulation.prng.utils.templates;
+
+import java.util.random.RandomGenerator;
+
+public interface Jumpable extends RandomGenerator {
+
+    void jump(long n);
+
+    Jumpable copyAndJump(long n);
+}
@@ -0,0 +1,125 @@
+package com.simulation.prng.utils.templates;
+
+import com.simulation.prng.io.Storage;
+import com.simulation.prng.utils.PagedSequence;
+import com.simulation.prng.utils.Progress;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.WritableSequence;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+public class ParallelGenerator {
+
+    private static final int CHECK_MASK = (1 << 12) - 1;
+
+    public static Sequence generate(AlgorithmTemplate generator) {
+        return generate(generator, ForkJoinPool.commonPool());
+    }
+
+    public static Sequence generate(AlgorithmTemplate generator, ForkJoinPool pool) {
+        return generate(generator, Long.MAX_VALUE, pool);
+    }
+
+    public static Sequence generate(AlgorithmTemplate generator, long limit) {
+        return generate(generator, limit, ForkJoinPool.commonPool());
+    }
+
+    public static Sequence generate(AlgorithmTemplate generator, long limit, ForkJoinPool pool) {
+        return generate(generator, limit, pool, null);
+    }
+
+    public static Sequence generate(AlgorithmTemplate generator, long limit, ForkJoinPool pool, Consumer<Progress> publisher) {
+        return generate(generator, Budget.of(limit), pool, publisher);
+    }
+
+    public static Sequence generate(AlgorithmTemplate generator, Budget budget, ForkJoinPool pool, Consumer<Progress> publisher) {
+        if (!(generator instanceof Jumpable)) return generator.generate(budget, publisher);
+
+        AlgorithmTemplate origin = generator.fresh();
+        long length = generator.period(budget).length();
+        if (budget.maxLength() < length) {
+            length = budget.maxLength();
+            budget.stop();
+        }
+        WritableSequence sequence = Storage.presized(origin.divisor(), length);
+
+        long blocks = (sequence.size() + PagedSequence.PAGE_SIZE - 1) >>> PagedSequence.PAGE_SHIFT;
+        Prefix prefix = new Prefix(sequence, blocks, publisher);
+        pool.invoke(new Fill(origin, sequence, budget, prefix, 0, blocks));
+        return sequence.head(prefix.values());
+    }
+
+    private static class Prefix {
+
+        private final Sequence sequence;
+        private final boolean[] finished;
+        private final Consumer<Progress> publisher;
+        private int ready;
+
+        Prefix(Sequence sequence, long blocks, Consumer<Progress> publisher) {
+            this.sequence = sequence;
+            this.finished = new boolean[(int) blocks];
+            this.publisher = publisher;
+        }
+
+        synchronized void finish(long block) {
+            finished[(int) block] = true;
+
+            int previous = ready;
+            while (ready < finished.length && finished[ready]) ready++;
+            if (ready == previous || publisher == null) return;
+
+            publisher.accept(new Progress(sequence, values(), sequence.size()));
+        }
+
+        synchronized long values() {
+            return Math.min((long) ready << PagedSequence.PAGE_SHIFT, sequence.size());
+        }
+    }
+
+    private static class Fill extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AlgorithmTemplate origin;
+        private final WritableSequence sequence;
+        private final Budget budget;
+        private final Prefix prefix;
+        private final long from;
+        private final long to;
+
+        Fill(AlgorithmTemplate origin, WritableSequence sequence, Budget budget, Prefix prefix, long from, long to) {
+            this.origin = origin;
+            this.sequence = sequence;
+            this.budget = budget;
+            this.prefix = prefix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                long middle = (from + to) >>> 1;
+                invokeAll(new Fill(origin, sequence, budget, prefix, from, middle), new Fill(origin, sequence, budget, prefix, middle, to));
+                return;
+            }
+
+            if (budget.exhausted()) return;
+
+            long start = from << PagedSequence.PAGE_SHIFT;
+            long end = Math.min(start + PagedSequence.PAGE_SIZE, sequence.size());
+
+            AlgorithmTemplate worker = origin.copy();
+            ((Jumpable) worker).jump(start);
+            for (long i = start; i < end; i++) {
+                sequence.set(i, worker.nextState());
+                if ((i & CHECK_MASK) == 0 && budget.exhausted()) return;
+            }
+
+            prefix.finish(from);
+        }
+    }
+}
@@ -8,6 +8,7 @@ module com.simulation.prng {
     requires javafx.base;
     requires commons.math3;
     requires jdk.compiler;
+    requires jdk.unsupported;
 
     opens com.simulation.prng to javafx.fxml;
     exports com.simulation.prng;
@@ -26,4 +27,11 @@ module com.simulation.prng {
 
     exports com.simulation.prng.utils.templates;
     opens com.simulation.prng.utils.templates to javafx.fxml;
+
+    exports com.simulation.prng.utils.detectors;
+    exports com.simulation.prng.utils.math;
+
+    exports com.simulation.prng.analysis;
+    exports com.simulation.prng.statistics;
+    exports com.simulation.prng.io;
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.models.BBS;
+import com.simulation.prng.models.CMM;
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MSM;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FunctionalGraphTest {
+
+    @Test
+    void linearMatchesBrent() {
+        for (long modulus : new long[]{1, 2, 64, 100, 97}) {
+            for (long multiplier = 0; multiplier < Math.min(modulus, 12); multiplier++) {
+                long a = multiplier;
+                check(FunctionalGraph.linear(a, 3, modulus), 0, modulus, seed -> new LCG(seed, a, 3, modulus));
+            }
+        }
+    }
+
+    @Test
+    void quadraticMatchesBrent() {
+        check(FunctionalGraph.quadratic(2, 3, 1, 4096), 0, 4096, seed -> new QCG(seed, 2, 3, 1, 4096));
+        check(FunctionalGraph.quadratic(5, 0, 7, 1000), 0, 1000, seed -> new QCG(seed, 5, 0, 7, 1000));
+    }
+
+    @Test
+    void blumBlumShubMatchesBrent() {
+        check(FunctionalGraph.blumBlumShub(43, 47), 0, 43 * 47, seed -> new BBS(seed, 43, 47));
+    }
+
+    @Test
+    void middleDigitsMatchBrent() {
+        check(FunctionalGraph.middleSquare(4), 1000, 10000, MSM::new);
+        check(FunctionalGraph.constantMultiplier(4, 3711), 1000, 10000, seed -> new CMM(seed, 3711));
+    }
+
+    @Test
+    void cyclicStatesAddUp() {
+        CycleStructure structure = FunctionalGraph.quadratic(2, 3, 1, 4096).analyze(new ForkJoinPool(2));
+
+        long cyclic = 0;
+        for (long state = 0; state < structure.states(); state++) {
+            if (structure.tail(state) == 0) cyclic++;
+        }
+        assertEquals(structure.cyclicStates(), cyclic);
+    }
+
+    private static void check(FunctionalGraph graph, long from, long to, LongFunction<AlgorithmTemplate> factory) {
+        CycleStructure structure = graph.analyze(new ForkJoinPool(2));
+        for (long seed = from; seed < to; seed++) {
+            long start = seed;
+            assertEquals(factory.apply(seed).period(), structure.period(seed), () -> "seed " + start);
+        }
+    }
+}
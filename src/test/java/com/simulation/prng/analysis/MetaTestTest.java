@@ -0,0 +1,60 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.statistics.PValueHistogram;
+import com.simulation.prng.statistics.TestSettings;
+import com.simulation.prng.utils.Form;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaTestTest {
+
+    private static final List<Long> MINSTD = List.of(42L, 48271L, 2147483647L);
+
+    @Test
+    void goodGeneratorGivesUniformPValues() {
+        for (MetaTest.Mode mode : MetaTest.Mode.values()) {
+            MetaTest meta = new MetaTest(Form.MCG, MINSTD, mode, 100, 5000, TestSettings.DEFAULT, 2);
+            List<MetaResult> results = meta.run();
+
+            assertEquals(100, meta.completed());
+            assertEquals(0, meta.skipped());
+            assertEquals(4, results.size());
+            for (MetaResult result : results) {
+                assertEquals(100, result.replicates());
+                assertTrue(result.sufficient());
+                assertTrue(result.passed(), () -> mode + " " + result);
+            }
+        }
+    }
+
+    @Test
+    void countingSequenceIsNotUniform() {
+        MetaTest meta = new MetaTest(Form.LCG, List.of(0L, 1L, 1L, 1L << 20), MetaTest.Mode.SEEDS, 60, 5000, TestSettings.DEFAULT, 2);
+        assertTrue(meta.run().stream().anyMatch(result -> !result.passed()));
+    }
+
+    @Test
+    void fewReplicatesAreInsufficient() {
+        MetaTest meta = new MetaTest(Form.MCG, MINSTD, MetaTest.Mode.SEEDS, PValueHistogram.MINIMUM_SAMPLES - 30, 1000, TestSettings.DEFAULT, 2);
+        for (MetaResult result : meta.run()) assertFalse(result.sufficient());
+    }
+
+    @Test
+    void substreamsNeedAJumpableGenerator() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MetaTest(Form.MSM, List.of(6752L), MetaTest.Mode.SUBSTREAMS, 60, 100));
+    }
+
+    @Test
+    void degenerateReplicatesAreSkipped() {
+        MetaTest meta = new MetaTest(Form.LCG, List.of(0L, 1L, 0L, 16L), MetaTest.Mode.SEEDS, 60, 100, TestSettings.DEFAULT, 2);
+        meta.run();
+        assertEquals(60, meta.completed() + meta.skipped());
+    }
+}
@@ -0,0 +1,56 @@
+package com.simulation.prng.analysis;
+
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParameterSweepTest {
+
+    @Test
+    void lcgPeriodsMatchBrent() {
+        check(ParameterSweep.Family.LCG, List.of(Range.of(0, 63), Range.of(0, 15), Range.of(64), new Range(0, 7, 7)),
+                p -> new LCG(p.get(3), p.get(0), p.get(1), p.get(2)));
+    }
+
+    @Test
+    void mcgPeriodsMatchBrent() {
+        check(ParameterSweep.Family.MCG, List.of(Range.of(0, 100), Range.of(2, 40), Range.of(1, 3)),
+                p -> new MCG(p.get(2), p.get(0), p.get(1)));
+    }
+
+    @Test
+    void qcgPeriodsMatchBrent() {
+        check(ParameterSweep.Family.QCG, List.of(Range.of(0, 6), Range.of(0, 6), Range.of(0, 6), new Range(8, 32, 8), Range.of(1)),
+                p -> new QCG(p.get(4), p.get(0), p.get(1), p.get(2), p.get(3)));
+    }
+
+    @Test
+    void rankingPrefersLongerPeriods() {
+        List<Candidate> leaders = new ParameterSweep(ParameterSweep.Family.LCG,
+                List.of(Range.of(0, 255), Range.of(0, 255), Range.of(256), Range.of(1)), 5, 2).run();
+
+        assertEquals(5, leaders.size());
+        for (Candidate candidate : leaders) assertEquals(256, candidate.period().length());
+    }
+
+    private static void check(ParameterSweep.Family family, List<Range> ranges, Function<List<Long>, AlgorithmTemplate> factory) {
+        long total = ranges.stream().mapToLong(Range::count).reduce(1, Math::multiplyExact);
+        ParameterSweep sweep = new ParameterSweep(family, ranges, (int) total, 2);
+        List<Candidate> candidates = sweep.run();
+
+        assertEquals(total, sweep.evaluated());
+        assertTrue(candidates.size() > total / 2);
+        for (Candidate candidate : candidates) {
+            assertTrue(candidate.determined());
+            assertEquals(factory.apply(candidate.parameters()).period(), candidate.period(), candidate.parameters()::toString);
+        }
+    }
+}
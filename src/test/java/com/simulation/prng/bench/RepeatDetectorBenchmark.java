@@ -0,0 +1,67 @@
+package com.simulation.prng.bench;
+
+import com.simulation.prng.utils.detectors.LongHashSet;
+import com.simulation.prng.utils.detectors.RepeatDetector;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// mvn -B test-compile && java -Xmx2g -cp target/classes:target/test-classes com.simulation.prng.bench.RepeatDetectorBenchmark [log2 m] [rounds]
+public class RepeatDetectorBenchmark {
+
+    public static void main(String[] args) {
+        int bits = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        long modulus = 1L << bits;
+
+        System.out.printf("Full-period LCG x -> 5x + 3 mod 2^%d (%d states), best of %d%n", bits, modulus, rounds);
+        run("HashSet<Long>", Boxed::new, modulus, rounds);
+        run("LongHashSet", LongHashSet::new, modulus, rounds);
+    }
+
+    private static void run(String name, Supplier<RepeatDetector> factory, long modulus, int rounds) {
+        long best = Long.MAX_VALUE;
+        long retained = 0;
+        for (int round = 0; round < rounds; round++) {
+            long before = used();
+            long start = System.nanoTime();
+
+            RepeatDetector detector = factory.get();
+            long mask = modulus - 1;
+            long state = 7;
+            do {
+                state = 5 * state + 3 & mask;
+            } while (detector.add(state));
+
+            long elapsed = System.nanoTime() - start;
+            if (detector.size() != modulus) throw new AssertionError(name + " saw " + detector.size() + " states");
+
+            best = Math.min(best, elapsed);
+            retained = used() - before;
+            detector.add(0);
+        }
+        System.out.printf("  %-14s %6.2f s  %5.1f bytes/state%n", name, best / 1e9, (double) retained / modulus);
+    }
+
+    private static long used() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class Boxed implements RepeatDetector {
+
+        private final Set<Long> values = new HashSet<>();
+
+        @Override
+        public boolean add(long value) {
+            return values.add(value);
+        }
+
+        @Override
+        public long size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.simulation.prng.io;
+
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.Sequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SequenceFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsStatesAndHeader() throws IOException {
+        List<Long> parameters = List.of(7L, 5L, 3L, 1L << 20);
+        Sequence sequence = new LCG(7, 5, 3, 1 << 20).generate();
+        Path path = directory.resolve("lcg.seq");
+
+        SequenceFile.write(path, "LCG", parameters, sequence);
+        SequenceFile file = SequenceFile.read(path);
+
+        assertEquals("LCG", file.algorithm());
+        assertEquals(parameters, file.parameters());
+        assertSame(sequence, file.sequence());
+    }
+
+    @Test
+    void keepsAlignmentForAnyNameLength() throws IOException {
+        Sequence sequence = new QCG(3, 2, 3, 1, 1_000_003).generate();
+        for (String name : List.of("Q", "QCG-ñandú", "quadratic congruential")) {
+            Path path = directory.resolve(name.length() + ".seq");
+            SequenceFile.write(path, name, List.of(2L, 3L, 1L, 1_000_003L, 3L), sequence);
+
+            SequenceFile file = SequenceFile.read(path);
+            assertEquals(name, file.algorithm());
+            assertSame(sequence, file.sequence());
+        }
+    }
+
+    @Test
+    void roundTripsAnEmptySequence() throws IOException {
+        Sequence empty = new LCG(1, 1, 0, 10).generate(0);
+        Path path = directory.resolve("empty.seq");
+
+        SequenceFile.write(path, "LCG", List.of(), empty);
+        assertSame(empty, SequenceFile.read(path).sequence());
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = directory.resolve("foreign.seq");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IOException.class, () -> SequenceFile.read(foreign));
+
+        Path truncated = directory.resolve("truncated.seq");
+        SequenceFile.write(truncated, "LCG", List.of(), new LCG(7, 5, 3, 1 << 12).generate());
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - Long.BYTES);
+        }
+        assertThrows(IOException.class, () -> SequenceFile.read(truncated));
+    }
+
+    @Test
+    void rejectsMalformedHeaders() throws IOException {
+        Path valid = directory.resolve("valid.seq");
+        SequenceFile.write(valid, "LCG", List.of(7L, 5L), new LCG(7, 5, 3, 1 << 12).generate());
+        byte[] bytes = Files.readAllBytes(valid);
+        int offset = ByteBuffer.wrap(bytes, 12, Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).getInt();
+
+        for (int badOffset : new int[]{0, 8, 15, offset - 1, offset + 4, Integer.MAX_VALUE - 7}) {
+            assertMalformed(bytes, 12, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(badOffset).array());
+        }
+        for (int badLength : new int[]{-1, 1 << 20}) {
+            assertMalformed(bytes, 16, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(badLength).array());
+        }
+        for (int badCount : new int[]{-1, 1 << 20}) {
+            assertMalformed(bytes, 23, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(badCount).array());
+        }
+        for (long badSize : new long[]{-1, Long.MAX_VALUE / 4, Long.MAX_VALUE}) {
+            assertMalformed(bytes, offset - Long.BYTES, ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(badSize).array());
+        }
+    }
+
+    private void assertMalformed(byte[] bytes, int position, byte[] patch) throws IOException {
+        byte[] copy = bytes.clone();
+        System.arraycopy(patch, 0, copy, position, patch.length);
+        Path path = Files.write(directory.resolve("malformed.seq"), copy);
+        assertThrows(IOException.class, () -> SequenceFile.read(path));
+    }
+
+    private static void assertSame(Sequence expected, Sequence actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.divisor(), actual.divisor());
+        for (long i = 0; i < expected.size(); i++) {
+            if (expected.state(i) != actual.state(i)) {
+                assertEquals(expected.state(i), actual.state(i), "index " + i);
+            }
+        }
+    }
+}
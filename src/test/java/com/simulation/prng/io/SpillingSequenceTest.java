@@ -0,0 +1,58 @@
+package com.simulation.prng.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillingSequenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void closeReleasesTheSpillFiles() throws IOException {
+        SpillingSequence sequence = new SpillingSequence(1000, 0, directory);
+        for (long i = 0; i < 1000; i++) sequence.add(i * 7 % 1000);
+
+        assertEquals(1000, sequence.spilled());
+        for (long i = 0; i < 1000; i++) assertEquals(i * 7 % 1000, sequence.state(i));
+
+        sequence.close();
+        assertEquals(0, spillFiles());
+        assertThrows(IllegalStateException.class, () -> sequence.state(0));
+    }
+
+    @Test
+    void sweepRemovesOnlyStaleFiles() throws IOException {
+        Path stale = Files.createTempFile(directory, "prng-", ".spill");
+        Path fresh = Files.createTempFile(directory, "prng-", ".spill");
+        Path other = Files.createTempFile(directory, "other-", ".spill");
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(stale, old);
+        Files.setLastModifiedTime(other, old);
+
+        SpillingSequence.sweep(directory);
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(fresh));
+        assertTrue(Files.exists(other));
+    }
+
+    private long spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".spill")).count();
+        }
+    }
+}
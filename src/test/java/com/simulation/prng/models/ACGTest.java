@@ -0,0 +1,72 @@
+package com.simulation.prng.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ACGTest {
+
+    @Test
+    void exactKeysMatchTupleSearch() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 1000; i++) {
+            int k = 1 + random.nextInt(4);
+            long modulus = 2 + random.nextInt(30);
+            check(seeds(random, k, modulus, 1), modulus);
+        }
+    }
+
+    @Test
+    void hashedKeysMatchTupleSearch() {
+        SplittableRandom random = new SplittableRandom(12);
+        for (int i = 0; i < 500; i++) {
+            int k = 2 + random.nextInt(6);
+            long scale = 1_000_000_007L;
+            long modulus = (2 + random.nextInt(12)) * scale;
+            check(seeds(random, k, modulus / scale, scale), modulus);
+        }
+    }
+
+    @Test
+    void hashedWindowsRunToTheLimit() {
+        long modulus = 1L << 40;
+        List<Long> seeds = List.of(0L, 1L);
+        ACG acg = new ACG(seeds, modulus);
+        assertEquals(100_000, acg.generate(100_000).size());
+    }
+
+    private static List<Long> seeds(SplittableRandom random, int k, long bound, long scale) {
+        List<Long> seeds = new ArrayList<>();
+        for (int j = 0; j < k; j++) seeds.add(random.nextLong(bound) * scale);
+        return seeds;
+    }
+
+    private static void check(List<Long> seeds, long modulus) {
+        long expected = tupleSearch(seeds, modulus);
+        ACG acg = new ACG(seeds, modulus);
+        assertEquals(expected, acg.generate().size(), () -> seeds + " mod " + modulus);
+        assertEquals(expected, new ACG(seeds, modulus).period().length(), () -> seeds + " mod " + modulus);
+    }
+
+    private static long tupleSearch(List<Long> seeds, long modulus) {
+        ArrayDeque<Long> window = new ArrayDeque<>();
+        for (long seed : seeds) window.add(seed % modulus);
+
+        Set<List<Long>> seen = new HashSet<>();
+        long count = 0;
+        while (true) {
+            long next = (window.peekFirst() + window.peekLast()) % modulus;
+            window.pollFirst();
+            window.addLast(next);
+            if (!seen.add(List.copyOf(window))) return count;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.simulation.prng.models;
+
+import com.simulation.prng.utils.templates.Jumpable;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JumpTest {
+
+    private static final long[] MODULI = {2, 97, 1 << 16, (1L << 31) - 1, 3037000501L, (1L << 40) + 2, 1L << 62};
+    private static final long[] DISTANCES = {0, 1, 2, 17, 1000, 4096, 65537};
+
+    @Test
+    void lcgJumpMatchesSteps() {
+        SplittableRandom random = new SplittableRandom(6);
+        for (long modulus : MODULI) {
+            long seed = random.nextLong(modulus);
+            long multiplier = random.nextLong(modulus);
+            long increment = random.nextLong(modulus);
+            check(() -> new LCG(seed, multiplier, increment, modulus));
+        }
+    }
+
+    @Test
+    void mcgJumpMatchesSteps() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (long modulus : MODULI) {
+            long seed = random.nextLong(modulus);
+            long multiplier = random.nextLong(modulus);
+            check(() -> new MCG(seed, multiplier, modulus));
+        }
+    }
+
+    @Test
+    void jumpsCompose() {
+        LCG stepped = new LCG(12345, 6364136223846793005L, 1442695040888963407L, 1L << 62);
+        LCG jumped = new LCG(12345, 6364136223846793005L, 1442695040888963407L, 1L << 62);
+        for (int i = 0; i < 300; i++) stepped.nextDouble();
+        jumped.jump(100);
+        jumped.jump(200);
+        assertEquals(stepped.nextLong(), jumped.nextLong());
+    }
+
+    @Test
+    void rejectsNegativeDistance() {
+        assertThrows(IllegalArgumentException.class, () -> new MCG(1, 16807, 2147483647).jump(-1));
+    }
+
+    private static void check(Supplier<? extends Jumpable> factory) {
+        for (long distance : DISTANCES) {
+            Jumpable stepped = factory.get();
+            for (long i = 0; i < distance; i++) stepped.nextDouble();
+
+            Jumpable jumped = factory.get();
+            jumped.jump(distance);
+            Jumpable copied = factory.get().copyAndJump(distance);
+
+            for (int i = 0; i < 8; i++) {
+                long expected = stepped.nextLong();
+                assertEquals(expected, jumped.nextLong(), () -> jumped + " after jump(" + distance + ")");
+                assertEquals(expected, copied.nextLong(), () -> copied + " after copyAndJump(" + distance + ")");
+            }
+        }
+    }
+}
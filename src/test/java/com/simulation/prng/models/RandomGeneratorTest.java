@@ -0,0 +1,104 @@
+package com.simulation.prng.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomGeneratorTest {
+
+    private static final int DRAWS = 60_000;
+
+    private static final Map<String, Supplier<RandomGenerator>> MODELS = Map.of(
+            "LCG", () -> new LCG(7, 6364136223846793005L, 1442695040888963407L, 1L << 62),
+            "MCG", () -> new MCG(42, 48271, 2147483647),
+            "QCG", () -> new QCG(3, 2, 3, 1, 1L << 31),
+            "BBS", () -> new BBS(3, 2147483647L, 2147483659L),
+            "ACG", () -> new ACG(List.of(1L, 5L, 9L, 13L, 17L, 21L, 25L), 1L << 40),
+            "MSM", () -> new MSM(675248),
+            "MPM", () -> new MPM(5015, 5734),
+            "CMM", () -> new CMM(9803, 6965));
+
+    @Test
+    void doublesStayInUnitInterval() {
+        MODELS.forEach((name, factory) -> {
+            RandomGenerator generator = factory.get();
+            for (int i = 0; i < DRAWS; i++) {
+                double u = generator.nextDouble();
+                assertTrue(u >= 0 && u < 1, () -> name + " nextDouble " + u);
+                float f = generator.nextFloat();
+                assertTrue(f >= 0 && f < 1, () -> name + " nextFloat " + f);
+            }
+            assertTrue(factory.get().doubles(DRAWS).allMatch(u -> u >= 0 && u < 1), name);
+        });
+    }
+
+    @Test
+    void topStateMapsBelowOne() {
+        assertArrayEquals(new double[]{0.25, 0.5, 0.75, 0.0}, new LCG(0, 1, 1, 4).doubles(4).toArray());
+        assertEquals(4, new LCG(0, 1, 1, 4).doubles(10).count());
+    }
+
+    @Test
+    void boundedDrawsCoverTheirRange() {
+        for (String name : List.of("LCG", "MCG", "QCG", "BBS", "ACG")) {
+            RandomGenerator generator = MODELS.get(name).get();
+            long[] counts = new long[6];
+            for (int i = 0; i < DRAWS; i++) counts[generator.nextInt(6)]++;
+            for (long count : counts) {
+                assertTrue(Math.abs(count - DRAWS / 6.0) < 0.05 * DRAWS / 6.0, () -> name + " nextInt(6) " + java.util.Arrays.toString(counts));
+            }
+
+            long trues = 0;
+            for (int i = 0; i < DRAWS; i++) if (generator.nextBoolean()) trues++;
+            assertEquals(0.5, (double) trues / DRAWS, 0.02, name + " nextBoolean");
+
+            assertTrue(generator.ints(5, 0, 100).allMatch(v -> v >= 0 && v < 100), name);
+            assertTrue(generator.ints(1000, 0, 100).boxed().collect(Collectors.toSet()).size() > 50, name + " ints(origin, bound)");
+        }
+    }
+
+    @Test
+    void nextLongCoversAllBits() {
+        for (String name : List.of("LCG", "MCG", "QCG", "BBS", "ACG")) {
+            RandomGenerator generator = MODELS.get(name).get();
+            long[] ones = new long[Long.SIZE];
+            for (int i = 0; i < DRAWS; i++) {
+                long value = generator.nextLong();
+                for (int bit = 0; bit < Long.SIZE; bit++) ones[bit] += value >>> bit & 1;
+            }
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                int b = bit;
+                assertEquals(0.5, (double) ones[bit] / DRAWS, 0.02, () -> name + " bit " + b);
+            }
+        }
+    }
+
+    @Test
+    void gaussianHasUnitSpread() {
+        RandomGenerator generator = MODELS.get("MCG").get();
+        double sum = 0;
+        double squares = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            double g = generator.nextGaussian();
+            sum += g;
+            squares += g * g;
+        }
+        double mean = sum / DRAWS;
+        assertEquals(0, mean, 0.03);
+        assertEquals(1, squares / DRAWS - mean * mean, 0.05);
+    }
+
+    @Test
+    void longStreamsEndAtTheCycle() {
+        assertEquals(1, new LCG(0, 1, 1, 16).longs(10).count());
+        assertEquals(5, new BBS(3, 2147483647L, 2147483659L).longs(5).count());
+    }
+}
@@ -0,0 +1,121 @@
+package com.simulation.prng.statistics;
+
+import com.simulation.prng.utils.Sequence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MedianTest {
+
+    private final long scratchBudget = Median.getScratchBudget();
+
+    @AfterEach
+    void restore() {
+        Median.setScratchBudget(scratchBudget);
+    }
+
+    @Test
+    void selectionMatchesSortedCopy() {
+        SplittableRandom random = new SplittableRandom(22);
+        for (int i = 0; i < 300; i++) {
+            Sequence data = sample(random);
+            assertEquals(sortedMedian(data), Median.of(data), () -> "size " + data.size());
+        }
+    }
+
+    @Test
+    void bucketsMatchSortedCopy() {
+        Median.setScratchBudget(0);
+        SplittableRandom random = new SplittableRandom(23);
+        for (int i = 0; i < 100; i++) {
+            Sequence data = sample(random);
+            assertEquals(sortedMedian(data), Median.of(data), () -> "size " + data.size());
+        }
+    }
+
+    @Test
+    void parallelBucketsMatchSortedCopy() {
+        SplittableRandom random = new SplittableRandom(24);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                Sequence data = sample(random);
+                double[] values = data.toArray();
+                double lo = Arrays.stream(values).min().orElseThrow();
+                double hi = Arrays.stream(values).max().orElseThrow();
+                assertEquals(sortedMedian(data), Median.of(data, lo, hi, pool), () -> "size " + data.size());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void p2IsExactOnTinySamples() {
+        double[] values = {0.9, 0.1, 0.5, 0.3};
+        for (int n = 1; n <= values.length; n++) {
+            P2Quantile quantile = new P2Quantile(0.5);
+            for (int i = 0; i < n; i++) quantile.accept(values[i]);
+
+            double[] sorted = Arrays.copyOf(values, n);
+            Arrays.sort(sorted);
+            assertEquals(sorted[(int) Math.round(0.5 * (n - 1))], quantile.quantile());
+        }
+    }
+
+    @Test
+    void p2TracksSortedCopy() {
+        SplittableRandom random = new SplittableRandom(25);
+        for (double p : new double[]{0.1, 0.5, 0.9}) {
+            double[] values = random.doubles(200_000).map(u -> u * u).toArray();
+            P2Quantile quantile = new P2Quantile(p);
+            for (double value : values) quantile.accept(value);
+
+            Arrays.sort(values);
+            double exact = values[(int) (p * (values.length - 1))];
+            assertEquals(values.length, quantile.count());
+            assertTrue(Math.abs(quantile.quantile() - exact) < 0.005, () -> "p=" + p + " exact " + exact + " estimate " + quantile.quantile());
+        }
+    }
+
+    private static Sequence sample(SplittableRandom random) {
+        int n = random.nextInt(1, 50_000);
+        long range = random.nextBoolean() ? random.nextLong(2, 64) : 1L << 40;
+        long[] states = random.longs(n, 0, range).toArray();
+        return new ArraySequence(states, range - 1);
+    }
+
+    private static double sortedMedian(Sequence data) {
+        double[] sorted = data.toArray();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        double lower = sorted[(n - 1) / 2];
+        return (n & 1) == 1 ? lower : lower + 0.5 * (sorted[n / 2] - lower);
+    }
+
+    private static class ArraySequence extends Sequence {
+
+        private final long[] states;
+
+        ArraySequence(long[] states, long divisor) {
+            super(divisor);
+            this.states = states;
+        }
+
+        @Override
+        public long state(long index) {
+            return states[(int) index];
+        }
+
+        @Override
+        public long size() {
+            return states.length;
+        }
+    }
+}
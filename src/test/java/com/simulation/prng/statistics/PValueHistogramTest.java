@@ -0,0 +1,58 @@
+package com.simulation.prng.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PValueHistogramTest {
+
+    @Test
+    void evenlySpreadPValuesAreUniform() {
+        PValueHistogram histogram = fill(1000, i -> (i + 0.5) / 1000);
+
+        assertTrue(histogram.sufficient());
+        assertEquals(0.95, histogram.passRate(), 1e-9);
+        assertTrue(histogram.chiSquare().passed());
+        assertEquals(0.0, histogram.chiSquare().statistic(), 1e-9);
+        assertTrue(histogram.kolmogorovSmirnov().passed());
+    }
+
+    @Test
+    void clusteredPValuesAreNotUniform() {
+        PValueHistogram histogram = fill(1000, i -> (i % 100) / 1000.0);
+
+        assertFalse(histogram.chiSquare().passed());
+        assertFalse(histogram.kolmogorovSmirnov().passed());
+        assertEquals(0.9, histogram.kolmogorovSmirnov().statistic(), 1e-9);
+    }
+
+    @Test
+    void fewSamplesAreInsufficientRatherThanFailed() {
+        PValueHistogram histogram = fill(PValueHistogram.MINIMUM_SAMPLES - 1, i -> (i + 0.5) / 49);
+
+        assertFalse(histogram.sufficient());
+        assertTrue(Double.isNaN(histogram.chiSquare().pValue()));
+        assertTrue(histogram.kolmogorovSmirnov().passed());
+    }
+
+    @Test
+    void mergeMatchesSinglePass() {
+        PValueHistogram whole = fill(600, i -> (i * 0.618034) % 1);
+        PValueHistogram left = fill(250, i -> (i * 0.618034) % 1);
+        PValueHistogram right = fill(350, i -> ((i + 250) * 0.618034) % 1);
+        left.merge(right);
+
+        assertEquals(whole.count(), left.count());
+        assertEquals(whole.passRate(), left.passRate());
+        assertEquals(whole.chiSquare(), left.chiSquare());
+        assertEquals(whole.kolmogorovSmirnov(), left.kolmogorovSmirnov());
+    }
+
+    private static PValueHistogram fill(int n, java.util.function.IntToDoubleFunction pValue) {
+        PValueHistogram histogram = new PValueHistogram();
+        for (int i = 0; i < n; i++) histogram.accept(pValue.applyAsDouble(i));
+        return histogram;
+    }
+}
@@ -0,0 +1,96 @@
+package com.simulation.prng.statistics;
+
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.utils.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PartialMergeTest {
+
+    private static final int SIZE = 20_000;
+    private static final int SPLITS = 200;
+
+    @Test
+    void mergedAccumulatorsMatchSinglePass() {
+        SplittableRandom random = new SplittableRandom(24);
+        for (int split = 0; split < SPLITS; split++) {
+            double[] data = random.doubles(SIZE).toArray();
+            int hand = 3 + random.nextInt(5);
+            double alpha = random.nextDouble(0.5);
+            double beta = alpha + 0.1 + random.nextDouble(0.4);
+            double median = random.nextDouble();
+            int[] cuts = cuts(random, hand);
+
+            Moments moments = single(data, new Moments());
+            Moments mergedMoments = merged(data, cuts, Moments::new, Moments::merge);
+            assertEquals(moments.count(), mergedMoments.count());
+            assertEquals(moments.minimum(), mergedMoments.minimum());
+            assertEquals(moments.maximum(), mergedMoments.maximum());
+            assertEquals(moments.mean(), mergedMoments.mean(), 1e-12);
+            assertEquals(moments.variance(), mergedMoments.variance(), 1e-12);
+
+            assertEquals(single(data, new Frequencies()).result(),
+                    merged(data, cuts, Frequencies::new, Frequencies::merge).result());
+            assertEquals(single(data, new Gaps(alpha, beta, 5)).result(),
+                    merged(data, cuts, () -> new Gaps(alpha, beta, 5), Gaps::merge).result());
+            assertEquals(single(data, new Poker(hand)).result(),
+                    merged(data, cuts, () -> new Poker(hand), Poker::merge).result());
+
+            Runs runs = single(data, new Runs(median));
+            Runs mergedRuns = merged(data, cuts, () -> new Runs(median), Runs::merge);
+            assertEquals(runs.runs(), mergedRuns.runs());
+            assertEquals(runs.length(), mergedRuns.length());
+        }
+    }
+
+    @Test
+    void parallelEngineMatchesSequential() {
+        Sequence data = new LCG(17, 1103515245, 12345, 1L << 31).generate(5_000_001);
+        TestSettings settings = TestSettings.DEFAULT.withPokerHand(4).withGaps(0.2, 0.7, 8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TestReport sequential = TestEngine.run(data, EnumSet.allOf(RandomnessTest.class), settings);
+            TestReport parallel = TestEngine.run(data, EnumSet.allOf(RandomnessTest.class), settings, pool);
+
+            assertEquals(sequential.size(), parallel.size());
+            assertEquals(sequential.mean(), parallel.mean(), 1e-12);
+            assertEquals(sequential.variance(), parallel.variance(), 1e-12);
+            assertEquals(sequential.results(), parallel.results());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static int[] cuts(SplittableRandom random, int hand) {
+        int[] cuts = random.ints(random.nextInt(1, 12), 0, SIZE / hand + 1).map(cut -> cut * hand).toArray();
+        Arrays.sort(cuts);
+        return cuts;
+    }
+
+    private static <T extends DoubleConsumer> T single(double[] data, T accumulator) {
+        for (double value : data) accumulator.accept(value);
+        return accumulator;
+    }
+
+    private static <T extends DoubleConsumer> T merged(double[] data, int[] cuts, Supplier<T> factory, BinaryOperator<T> merge) {
+        T result = null;
+        int from = 0;
+        for (int i = 0; i <= cuts.length; i++) {
+            int to = i < cuts.length ? cuts[i] : data.length;
+            T part = factory.get();
+            for (int j = from; j < to; j++) part.accept(data[j]);
+            result = result == null ? part : merge.apply(result, part);
+            from = to;
+        }
+        return result;
+    }
+}
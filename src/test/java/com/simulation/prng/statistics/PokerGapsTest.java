@@ -0,0 +1,94 @@
+package com.simulation.prng.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PokerGapsTest {
+
+    @Test
+    void pokerProbabilitiesMatchEnumeration() {
+        for (int hand = 1; hand <= 6; hand++) {
+            long[] counts = new long[hand + 1];
+            int hands = (int) Math.pow(10, hand);
+            for (int code = 0; code < hands; code++) {
+                int mask = 0;
+                for (int rest = code, i = 0; i < hand; i++, rest /= 10) mask |= 1 << rest % 10;
+                counts[Integer.bitCount(mask)]++;
+            }
+
+            double[] probabilities = Poker.probabilities(hand);
+            for (int r = 1; r <= hand; r++) assertEquals((double) counts[r] / hands, probabilities[r], 1e-12, "hand " + hand + ", r " + r);
+        }
+    }
+
+    @Test
+    void largeHandsCapAtTenDigits() {
+        for (int hand : new int[]{10, 11, 20, 40}) {
+            double[] probabilities = Poker.probabilities(hand);
+            assertEquals(11, probabilities.length);
+
+            double total = 0;
+            for (double probability : probabilities) {
+                assertEquals(true, probability >= 0);
+                total += probability;
+            }
+            assertEquals(1.0, total, 1e-9, "hand " + hand);
+        }
+    }
+
+    @Test
+    void pokerCountsDistinctDigitsPerHand() {
+        Poker poker = new Poker(3);
+        double[] values = {0.05, 0.15, 0.25, 0.55, 0.51, 0.52, 0.95, 0.05, 0.91};
+        for (int i = 0; i < 20; i++) for (double value : values) poker.accept(value);
+
+        double[] probabilities = Poker.probabilities(3);
+        long[] observed = {0, 20, 20, 20};
+        double chiSquare = 0;
+        for (int r = 1; r <= 3; r++) {
+            double expected = 60 * probabilities[r];
+            if (expected >= 5) chiSquare += Math.pow(observed[r] - expected, 2) / expected;
+        }
+        assertEquals(chiSquare, poker.result().statistic(), 1e-9);
+    }
+
+    @Test
+    void gapsUseTheConfiguredInterval() {
+        double alpha = 0.2;
+        double beta = 0.4;
+        int maxGap = 3;
+        Gaps gaps = new Gaps(alpha, beta, maxGap);
+
+        long[] observed = new long[maxGap + 1];
+        double[] pattern = {0.9, 0.3, 0.3, 0.1, 0.3, 0.5, 0.6, 0.3, 0.7, 0.8, 0.9, 0.95, 0.25};
+        for (int repeat = 0; repeat < 40; repeat++) {
+            for (double value : pattern) gaps.accept(value);
+        }
+        observed[0] += 40;
+        observed[1] += 40 + 39;
+        observed[2] += 40;
+        observed[3] += 40;
+
+        double p = beta - alpha;
+        long total = 0;
+        for (long count : observed) total += count;
+        double chiSquare = 0;
+        for (int i = 0; i <= maxGap; i++) {
+            double expected = i < maxGap ? total * Math.pow(1 - p, i) * p : total * Math.pow(1 - p, maxGap);
+            chiSquare += Math.pow(observed[i] - expected, 2) / expected;
+        }
+        assertEquals(chiSquare, gaps.result().statistic(), 1e-9);
+    }
+
+    @Test
+    void settingsRejectInvalidIntervals() {
+        TestSettings settings = TestSettings.DEFAULT;
+        assertThrows(IllegalArgumentException.class, () -> settings.withGaps(0.5, 0.5, 5));
+        assertThrows(IllegalArgumentException.class, () -> settings.withGaps(-0.1, 0.5, 5));
+        assertThrows(IllegalArgumentException.class, () -> settings.withGaps(0.0, 1.5, 5));
+        assertThrows(IllegalArgumentException.class, () -> settings.withGaps(0.0, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> settings.withPokerHand(0));
+    }
+}
@@ -0,0 +1,50 @@
+package com.simulation.prng.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PatternTest {
+
+    @Test
+    void matchesBigIntegerReference() {
+        SplittableRandom random = new SplittableRandom(8);
+        for (int i = 0; i < 200_000; i++) {
+            int length = 1 + random.nextInt(Pattern.MAX_LENGTH);
+            long a = random.nextLong(Pattern.power(1 + random.nextInt(Pattern.MAX_LENGTH)));
+            long b = random.nextBoolean() ? a : random.nextLong(Pattern.power(1 + random.nextInt(Pattern.MAX_LENGTH)));
+            assertEquals(reference(a, b, length), Pattern.apply(a, b, length), () -> a + " * " + b + ", l = " + length);
+        }
+    }
+
+    @Test
+    void matchesReferenceAtTheEdges() {
+        for (int length = 1; length <= Pattern.MAX_LENGTH; length++) {
+            long largest = Pattern.power(length) - 1;
+            long widest = Pattern.power(Pattern.MAX_LENGTH) - 1;
+            for (long[] pair : new long[][]{{0, 0}, {1, 1}, {largest, largest}, {largest, widest}, {widest, widest}}) {
+                assertEquals(reference(pair[0], pair[1], length), Pattern.apply(pair[0], pair[1], length));
+            }
+        }
+    }
+
+    @Test
+    void lengthCountsDigits() {
+        assertEquals(1, Pattern.length(0));
+        assertEquals(4, Pattern.length(1000));
+        assertEquals(4, Pattern.length(9999));
+        assertEquals(Pattern.MAX_LENGTH, Pattern.length(Pattern.power(Pattern.MAX_LENGTH) - 1));
+        assertThrows(IllegalArgumentException.class, () -> Pattern.length(Pattern.power(Pattern.MAX_LENGTH)));
+    }
+
+    private static long reference(long a, long b, int length) {
+        String product = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).toString();
+        String padded = "0".repeat(Math.max(0, 2 * length - product.length())) + product;
+        int start = length / 2;
+        return Long.parseLong(padded.substring(start, start + length));
+    }
+}
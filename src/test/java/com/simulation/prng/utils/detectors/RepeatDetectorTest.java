@@ -0,0 +1,73 @@
+package com.simulation.prng.utils.detectors;
+
+import com.simulation.prng.models.ACG;
+import com.simulation.prng.models.BBS;
+import com.simulation.prng.models.CMM;
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import com.simulation.prng.models.MPM;
+import com.simulation.prng.models.MSM;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.Sequence;
+import com.simulation.prng.utils.templates.AlgorithmTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RepeatDetectorTest {
+
+    @Test
+    void bitmapAgreesWithHashSet() {
+        SplittableRandom random = new SplittableRandom(12);
+        for (long bound : new long[]{1, 63, 64, 65, 1000, 1 << 20}) {
+            BitmapDetector bitmap = new BitmapDetector(bound);
+            LongHashSet hashed = new LongHashSet();
+            for (int i = 0; i < 50_000; i++) {
+                long value = random.nextLong(bound);
+                assertEquals(hashed.add(value), bitmap.add(value), () -> value + " below " + bound);
+                assertEquals(hashed.size(), bitmap.size());
+            }
+            for (long value = 0; value < Math.min(bound, 5000); value++) assertEquals(hashed.contains(value), bitmap.contains(value));
+        }
+    }
+
+    @Test
+    void bitmapRejectsStatesOutsideItsBound() {
+        BitmapDetector bitmap = new BitmapDetector(100);
+        assertThrows(IllegalStateException.class, () -> bitmap.add(100));
+        assertThrows(IllegalStateException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    void modelsGenerateTheSameSequenceWithEitherDetector() {
+        List<Supplier<AlgorithmTemplate>> models = List.of(
+                () -> new MSM(6752),
+                () -> new MPM(5015, 5734),
+                () -> new CMM(9803, 6965),
+                () -> new LCG(7, 5, 3, 1 << 16),
+                () -> new MCG(3, 16807, 65521),
+                () -> new QCG(3, 2, 3, 1, 4096),
+                () -> new BBS(3, 43, 47),
+                () -> new ACG(List.of(1L, 5L, 9L), 64));
+
+        long budget = AlgorithmTemplate.getDetectorBudget();
+        try {
+            for (Supplier<AlgorithmTemplate> model : models) {
+                AlgorithmTemplate.setDetectorBudget(budget);
+                Sequence bitmap = model.get().generate();
+                AlgorithmTemplate.setDetectorBudget(0);
+                Sequence hashed = model.get().generate();
+
+                assertEquals(hashed.size(), bitmap.size());
+                for (long i = 0; i < bitmap.size(); i++) assertEquals(hashed.state(i), bitmap.state(i));
+            }
+        } finally {
+            AlgorithmTemplate.setDetectorBudget(budget);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.simulation.prng.utils.math;
+
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.Period;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AffinePeriodTest {
+
+    private static final long[] MODULI = {1, 2, 3, 8, 9, 12, 97, 360, 1024, 2310, 4096, 65537, 1 << 20, 999_983};
+
+    @Test
+    void matchesBrentOnAffineMaps() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (long modulus : MODULI) {
+            for (int i = 0; i < 40; i++) {
+                long seed = random.nextLong(modulus);
+                long multiplier = random.nextLong(modulus);
+                long increment = i % 4 == 0 ? 0 : random.nextLong(modulus);
+                assertPeriod(seed, multiplier, increment, modulus);
+            }
+        }
+    }
+
+    @Test
+    void matchesBrentOnFullPeriodParameters() {
+        assertPeriod(7, 5, 3, 1 << 16);
+        assertPeriod(1, 16807, 0, 65537);
+        assertPeriod(0, 1, 1, 999_983);
+        assertPeriod(5, 1, 0, 360);
+        assertPeriod(0, 0, 0, 97);
+    }
+
+    private static void assertPeriod(long seed, long multiplier, long increment, long modulus) {
+        Period expected = new QCG(seed, 0, multiplier, increment, modulus).period();
+        assertEquals(expected, AffinePeriod.of(seed, multiplier, increment, modulus),
+                () -> "seed=" + seed + " a=" + multiplier + " c=" + increment + " m=" + modulus);
+    }
+}
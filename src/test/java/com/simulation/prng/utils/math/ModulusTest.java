@@ -0,0 +1,77 @@
+package com.simulation.prng.utils.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ModulusTest {
+
+    private static final int SAMPLES = 2000;
+
+    @Test
+    void powerOfTwo() {
+        check("PowerOfTwo", 1, 2, 1 << 16, 1L << 32, 1L << 62);
+    }
+
+    @Test
+    void mersenne() {
+        check("Mersenne", 3, 7, (1L << 31) - 1, (1L << 61) - 1, (1L << 62) - 1);
+    }
+
+    @Test
+    void nativeProduct() {
+        check("Native", 5, 97, 1_000_000, 3037000499L);
+    }
+
+    @Test
+    void montgomery() {
+        check("Montgomery", 3037000501L, 1L << 40 | 1, 2305843009213693951L + 2, Long.MAX_VALUE);
+    }
+
+    @Test
+    void wide() {
+        check("Wide", 3037000500L, (1L << 40) + 2, 6_000_000_000_000_000_000L, Long.MAX_VALUE - 3);
+    }
+
+    private static void check(String variant, long... moduli) {
+        SplittableRandom random = new SplittableRandom(variant.hashCode());
+        for (long value : moduli) {
+            Modulus modulus = Modulus.of(value);
+            assertEquals(variant, modulus.getClass().getSimpleName(), () -> "m=" + value);
+
+            BigInteger m = BigInteger.valueOf(value);
+            for (int i = 0; i < SAMPLES; i++) {
+                long x = sample(random, value, i);
+                long y = sample(random, value, i + 1);
+                long raw = random.nextLong(Long.MAX_VALUE);
+                String context = "m=" + value + " x=" + x + " y=" + y;
+
+                assertEquals(BigInteger.valueOf(raw).mod(m).longValue(), modulus.reduce(raw), context);
+                assertEquals(big(x).add(big(y)).mod(m).longValue(), modulus.add(x, y), context);
+                assertEquals(big(x).multiply(big(y)).mod(m).longValue(), modulus.multiply(x, y), context);
+                assertEquals(big(x).multiply(big(y)).mod(m).longValue(), modulus.multiplyPrepared(modulus.prepare(x), y), context);
+
+                LongUnaryOperator step = modulus.affineStep(raw, y);
+                BigInteger expected = BigInteger.valueOf(raw).multiply(big(x)).add(big(y)).mod(m);
+                assertEquals(expected.longValue(), step.applyAsLong(x), context);
+            }
+        }
+    }
+
+    private static long sample(SplittableRandom random, long modulus, int i) {
+        return switch (i % 8) {
+            case 0 -> 0;
+            case 1 -> modulus - 1;
+            case 2 -> Math.min(1, modulus - 1);
+            default -> random.nextLong(modulus);
+        };
+    }
+
+    private static BigInteger big(long value) {
+        return BigInteger.valueOf(value);
+    }
+}
@@ -0,0 +1,51 @@
+package com.simulation.prng.utils.templates;
+
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerateTest {
+
+    @Test
+    void cycleClosingAtTheLimitIsNotStopped() {
+        Budget budget = Budget.of(256);
+        assertEquals(256, new LCG(7, 5, 3, 256).generate(budget).size());
+        assertFalse(budget.isStopped());
+    }
+
+    @Test
+    void limitInsideTheCycleIsStopped() {
+        Budget budget = Budget.of(255);
+        assertEquals(255, new LCG(7, 5, 3, 256).generate(budget).size());
+        assertTrue(budget.isStopped());
+    }
+
+    @Test
+    void limitBeyondTheCycleIsNotStopped() {
+        Budget budget = Budget.of(1000);
+        assertEquals(256, new LCG(7, 5, 3, 256).generate(budget).size());
+        assertFalse(budget.isStopped());
+    }
+
+    @Test
+    void serialAndParallelAgreeOnStopping() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (long limit : new long[]{65535, 65536, 65537}) {
+                Budget serial = Budget.of(limit);
+                Budget parallel = Budget.of(limit);
+                new MCG(3, 75, 65537).generate(serial);
+                ParallelGenerator.generate(new MCG(3, 75, 65537), parallel, pool, null);
+                assertEquals(parallel.isStopped(), serial.isStopped(), "limit " + limit);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.simulation.prng.utils.templates;
+
+import com.simulation.prng.io.Storage;
+import com.simulation.prng.models.LCG;
+import com.simulation.prng.models.MCG;
+import com.simulation.prng.models.QCG;
+import com.simulation.prng.utils.Sequence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelGeneratorTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void start() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stop() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void fullPeriodLcgMatchesSerial() {
+        LCG lcg = new LCG(7, 5, 3, 1 << 22);
+        assertSame(lcg.generate(), ParallelGenerator.generate(lcg, pool));
+    }
+
+    @Test
+    void shortCycleWithTailMatchesSerial() {
+        LCG lcg = new LCG(11, 6, 0, 3_000_000);
+        assertSame(lcg.generate(), ParallelGenerator.generate(lcg, pool));
+
+        MCG mcg = new MCG(3, 16807, 2147483647);
+        assertSame(mcg.generate(3_000_000), ParallelGenerator.generate(mcg, 3_000_000, pool));
+    }
+
+    @Test
+    void lengthCapStopsTheBudget() {
+        LCG lcg = new LCG(1, 6364136223846793005L, 1442695040888963407L, 1L << 62);
+        Budget budget = Budget.of(2_500_000);
+        Sequence parallel = ParallelGenerator.generate(lcg, budget, pool, null);
+
+        assertTrue(budget.isStopped());
+        assertSame(lcg.generate(2_500_000), parallel);
+    }
+
+    @Test
+    void cancelledBudgetKeepsAContiguousPrefix() {
+        LCG lcg = new LCG(1, 6364136223846793005L, 1442695040888963407L, 1L << 62);
+        Budget budget = Budget.of(4_000_000);
+        budget.cancel();
+        Sequence parallel = ParallelGenerator.generate(lcg, budget, pool, null);
+
+        assertTrue(parallel.size() < 4_000_000);
+        assertSame(lcg.generate(parallel.size()), parallel);
+    }
+
+    @Test
+    void nonJumpableFallsBackToSerial() {
+        QCG qcg = new QCG(3, 2, 3, 1, 1_000_003);
+        Sequence parallel = ParallelGenerator.generate(qcg, pool);
+        assertFalse(parallel.isEmpty());
+        assertSame(qcg.generate(), parallel);
+    }
+
+    @Test
+    void spilledFillMatchesSerial(@TempDir Path directory) {
+        long heapBudget = Storage.getHeapBudget();
+        Path spillDirectory = Storage.getSpillDirectory();
+        try {
+            Storage.setHeapBudget(1 << 20);
+            Storage.setSpillDirectory(directory);
+            LCG lcg = new LCG(9, 5, 1, 1 << 21);
+            assertSame(lcg.generate(), ParallelGenerator.generate(lcg, pool));
+        } finally {
+            Storage.setHeapBudget(heapBudget);
+            Storage.setSpillDirectory(spillDirectory);
+        }
+    }
+
+    private static void assertSame(Sequence expected, Sequence actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.divisor(), actual.divisor());
+        for (long i = 0; i < expected.size(); i++) {
+            if (expected.state(i) != actual.state(i)) {
+                assertEquals(expected.state(i), actual.state(i), "index " + i);
+            }
+        }
+    }
+}